@@ -5,7 +5,10 @@ import org.slf4j.LoggerFactory;
 import org.epam.exceptions.ConfigurationException;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Configuration Manager
@@ -15,6 +18,7 @@ import java.util.Properties;
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
     private static Properties properties;
+    private static volatile Map<String, String> snapshot;
     private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
 
     // Load properties when class is first used
@@ -80,6 +84,357 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Read an integer property, preferring a -D system property over config.properties
+     *
+     * @param key property key
+     * @param defaultValue value used when the key is not configured
+     * @return configured value or the default
+     * @throws ConfigurationException if the configured value is not a number
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        if (value == null || value.trim().isEmpty()) {
+            logger.debug("Property '{}' not configured, using default: {}", key, defaultValue);
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.error("Invalid numeric value for property '{}': {}", key, value);
+            throw new ConfigurationException("Invalid value for " + key + ": '" + value + "'. Must be a number", e);
+        }
+    }
+
+    /**
+     * Read a string property, preferring a -D system property over config.properties
+     *
+     * @param key property key
+     * @param defaultValue value used when the key is not configured
+     * @return configured value or the default
+     */
+    public static String getStringProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        if (value == null || value.trim().isEmpty()) {
+            logger.debug("Property '{}' not configured, using default: {}", key, defaultValue);
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Read a boolean property, preferring a -D system property over config.properties
+     *
+     * @param key property key
+     * @param defaultValue value used when the key is not configured
+     * @return configured value or the default
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        if (value == null || value.trim().isEmpty()) {
+            logger.debug("Property '{}' not configured, using default: {}", key, defaultValue);
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Immutable view of the effective configuration (config.properties overridden by -D)
+     * Built once - both sources are fixed after startup. Carried by each TestContext.
+     *
+     * @return sorted key/value snapshot
+     */
+    public static Map<String, String> getSnapshot() {
+        Map<String, String> cached = snapshot;
+        if (cached == null) {
+            Map<String, String> values = new TreeMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, System.getProperty(key, properties.getProperty(key)));
+            }
+            cached = Collections.unmodifiableMap(values);
+            snapshot = cached;
+        }
+        return cached;
+    }
+
+    public static boolean isDriverPoolEnabled() {
+        boolean enabled = getBooleanProperty("driver.pool.enabled", false);
+        logger.debug("Driver pool enabled: {}", enabled);
+        return enabled;
+    }
+
+    /**
+     * Number of parallel test threads (surefire threadCount)
+     * Passed from pom.xml as -Dparallel.count
+     */
+    public static int getParallelCount() {
+        return getIntProperty("parallel.count", 1);
+    }
+
+    /**
+     * Number of TestNG worker threads (surefire threadCount)
+     * Passed from pom.xml as -Dtest.concurrency, defaults to parallel.count
+     */
+    public static int getTestConcurrency() {
+        return getIntProperty("test.concurrency", getParallelCount());
+    }
+
+    /**
+     * Maximum number of browsers held by tests at once - see BrowserPermits
+     * Defaults to one browser per parallel test thread
+     */
+    public static int getBrowserConcurrency() {
+        return getIntProperty("browser.concurrency", getParallelCount());
+    }
+
+    /**
+     * Seconds a test waits for a free browser before setUp fails
+     */
+    public static int getBrowserPermitTimeout() {
+        return getIntProperty("browser.permit.timeout", 300);
+    }
+
+    /**
+     * Pool size defaults to browser.concurrency (never more browsers than permits)
+     */
+    public static int getDriverPoolMaxSize() {
+        return getIntProperty("driver.pool.max.size", getBrowserConcurrency());
+    }
+
+    /**
+     * Sessions pre-launched at suite start - defaults to the pool size
+     */
+    public static int getDriverPoolWarmupCount() {
+        return getIntProperty("driver.pool.warmup.count", getDriverPoolMaxSize());
+    }
+
+    public static int getDriverPoolMaxUses() {
+        return getIntProperty("driver.pool.max.uses", 20);
+    }
+
+    public static int getDriverPoolLeaseTimeout() {
+        return getIntProperty("driver.pool.lease.timeout", 60);
+    }
+
+    /**
+     * When true, drivers are resolved only from the local drivers/ cache (no network)
+     */
+    public static boolean isDriverResolverOffline() {
+        return getBooleanProperty("driver.resolver.offline", false);
+    }
+
+    /**
+     * When true, all Chrome sessions share one ChromeDriverService process
+     */
+    public static boolean isSharedChromeServiceEnabled() {
+        return getBooleanProperty("driver.chrome.shared.service", false);
+    }
+
+    /**
+     * When true, each test gets its own CDP browser context in a shared browser process
+     */
+    public static boolean isContextIsolationEnabled() {
+        return getBooleanProperty("driver.context.isolation", false);
+    }
+
+    /**
+     * Total time (seconds) one UI action may spend across all nested waits and retries
+     */
+    public static int getActionBudget() {
+        return getIntProperty("action.budget", 30);
+    }
+
+    /**
+     * How long (ms) optional-element probes poll before reporting absence
+     */
+    public static int getPresenceProbeMillis() {
+        return getIntProperty("presence.probe.ms", 1000);
+    }
+
+    /**
+     * When true the implicit wait is 0 and all waiting goes through the explicit wait engine in BasePage
+     */
+    public static boolean isExplicitWaitOnly() {
+        return getBooleanProperty("wait.explicit.only", false);
+    }
+
+    /**
+     * Poll interval (ms) of explicit waits - WebDriverWait's own default is 500 ms
+     */
+    public static int getWaitPollingMillis() {
+        return getIntProperty("wait.polling.ms", 500);
+    }
+
+    /**
+     * When true, tests that don't test login restore a captured session instead of using the login form
+     */
+    public static boolean isSessionReuseEnabled() {
+        return getBooleanProperty("session.reuse.enabled", false);
+    }
+
+    /**
+     * Maximum age (seconds) of a captured login session before the UI login is repeated
+     */
+    public static int getSessionSnapshotTtl() {
+        return getIntProperty("session.snapshot.ttl", 300);
+    }
+
+    /**
+     * When true, page objects reuse located elements until they go stale or the page navigates
+     */
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", false);
+    }
+
+    /**
+     * When true, waitForPageLoad also waits until the DOM stops mutating
+     */
+    public static boolean isDomStableWaitEnabled() {
+        return getBooleanProperty("wait.dom.stable.enabled", false);
+    }
+
+    /**
+     * How long (ms) the DOM must see no mutations to count as stable
+     */
+    public static int getDomQuietMillis() {
+        return getIntProperty("wait.dom.quiet.ms", 300);
+    }
+
+    /**
+     * When true, navigateToUrl also waits for the network to go idle
+     */
+    public static boolean isNetworkIdleWaitEnabled() {
+        return getBooleanProperty("wait.network.idle.enabled", false);
+    }
+
+    /**
+     * How long (ms) no request may be pending for the network to count as idle
+     */
+    public static int getNetworkIdleMillis() {
+        return getIntProperty("wait.network.idle.ms", 500);
+    }
+
+    /**
+     * Timeout (seconds) for one wait condition, read from wait.&lt;condition&gt;.timeout
+     * Conditions used by BasePage: visible, clickable, url, page.load, dom.stable, network.idle
+     *
+     * @param condition condition name, e.g. "visible"
+     * @return configured timeout, or the global timeout when not set
+     */
+    public static int getWaitTimeout(String condition) {
+        return getIntProperty("wait." + condition + ".timeout", getTimeout());
+    }
+
+    /**
+     * When true, browsers are leased from the machine-wide BrowserBroker (shared by all forks)
+     */
+    public static boolean isBrokerEnabled() {
+        return getBooleanProperty("broker.enabled", false);
+    }
+
+    public static int getBrokerPort() {
+        return getIntProperty("broker.port", 4499);
+    }
+
+    /**
+     * Browsers allowed on the machine across all forks - defaults to the number of CPUs
+     */
+    public static int getBrokerMaxBrowsers() {
+        return getIntProperty("broker.max.browsers", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Seconds the broker stays up without any lease before it exits
+     */
+    public static int getBrokerIdleTimeout() {
+        return getIntProperty("broker.idle.timeout", 60);
+    }
+
+    /**
+     * When true, DurationScheduler orders tests longest-first from the duration history
+     */
+    public static boolean isDurationSchedulingEnabled() {
+        return getBooleanProperty("schedule.duration.enabled", false);
+    }
+
+    /**
+     * Per-test duration history written after each run
+     */
+    public static String getDurationHistoryFile() {
+        return getStringProperty("schedule.history.file", "test-history/durations.properties");
+    }
+
+    /**
+     * Assumed duration (ms) of a test that has no history yet
+     */
+    public static int getDefaultTestDurationMillis() {
+        return getIntProperty("schedule.default.duration.ms", 30000);
+    }
+
+    /**
+     * Number of shards (forks / CI jobs) the suite is split into - 1 runs everything
+     */
+    public static int getScheduleShardCount() {
+        return getIntProperty("schedule.shard.count", 1);
+    }
+
+    /**
+     * Zero-based shard this JVM runs when schedule.shard.count &gt; 1
+     */
+    public static int getScheduleShardIndex() {
+        return getIntProperty("schedule.shard.index", 0);
+    }
+
+    /**
+     * Fixed duration file shards are planned from - empty plans from schedule.history.file as loaded
+     */
+    public static String getScheduleShardBaselineFile() {
+        return getStringProperty("schedule.shard.baseline.file", "");
+    }
+
+    /**
+     * When true, HealthGate probes the environment before and during the suite
+     */
+    public static boolean isHealthCheckEnabled() {
+        return getBooleanProperty("health.check.enabled", false);
+    }
+
+    /**
+     * URL of the HTTP health check - defaults to base.url
+     */
+    public static String getHealthCheckUrl() {
+        return getStringProperty("health.check.url", getBaseUrl());
+    }
+
+    public static int getHealthCheckTimeoutMillis() {
+        return getIntProperty("health.check.timeout.ms", 5000);
+    }
+
+    /**
+     * CSS selector the sample page render must show - empty skips the render check
+     */
+    public static String getHealthCheckRenderSelector() {
+        return getStringProperty("health.check.render.selector", "");
+    }
+
+    public static int getHealthCheckRenderTimeout() {
+        return getIntProperty("health.check.render.timeout", 15);
+    }
+
+    /**
+     * Seconds between background HTTP probes - 0 disables the background probe
+     */
+    public static int getHealthCheckIntervalSeconds() {
+        return getIntProperty("health.check.interval.seconds", 15);
+    }
+
+    /**
+     * Consecutive background probe failures that trip the suite-wide breaker
+     */
+    public static int getHealthCheckFailureThreshold() {
+        return getIntProperty("health.check.failure.threshold", 2);
+    }
+
     public static boolean isHeadless() {
         String headless = getProperty("headless");
         boolean isHeadless = Boolean.parseBoolean(headless);
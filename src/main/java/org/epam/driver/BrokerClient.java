@@ -0,0 +1,293 @@
+package org.epam.driver;
+
+import org.epam.config.ConfigManager;
+import org.epam.exceptions.FrameworkException;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broker Client - Leases browser slots from the machine-wide BrowserBroker
+ *
+ * Used by BrowserFactory when broker.enabled=true. Connects to localhost:broker.port and
+ * starts the broker JVM (same classpath) if nothing is listening yet; when several forks
+ * race to start it, only one binds the port and the others connect to it.
+ *
+ * Usage:
+ * WebDriver driver = BrokerClient.createDriver(BrowserType.CHROME, chromeOptions);
+ * int cap = BrokerClient.getMaxBrowsers();
+ */
+public class BrokerClient {
+    private static final Logger logger = LoggerFactory.getLogger(BrokerClient.class);
+
+    private static final long BROKER_STARTUP_MILLIS = 15_000;
+    private static final int STATUS_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * Lease a slot and open a RemoteWebDriver session on the broker's driver service
+     *
+     * @param browserType browser to run
+     * @param capabilities options built by BrowserFactory
+     * @return session that returns its slot on quit()
+     * @throws FrameworkException if the broker cannot be reached or no slot is granted in time
+     */
+    public static WebDriver createDriver(BrowserType browserType, Capabilities capabilities) {
+        Lease lease = lease(browserType);
+        logger.info("Broker lease granted - opening {} session on {}", browserType, lease.getServiceUrl());
+        return BrokeredWebDriver.create(browserType, lease, capabilities);
+    }
+
+    /**
+     * Wait for a browser slot - fair across all forks on this machine
+     *
+     * @param browserType browser to run
+     * @return granted lease; close it to return the slot
+     */
+    public static Lease lease(BrowserType browserType) {
+        Socket socket = connect();
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(ConfigManager.getBrowserPermitTimeout());
+        try {
+            socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, timeoutMillis));
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+
+            long startNanos = System.nanoTime();
+            out.println("LEASE " + browserType.getBrowserName());
+            String reply = in.readLine();
+            if (reply == null || !reply.startsWith("GRANTED ")) {
+                throw new FrameworkException("Browser broker refused lease: " + reply);
+            }
+            // No reads after the grant - the lease lives as long as the connection
+            socket.setSoTimeout(0);
+            logger.debug("Broker slot granted after {} ms", (System.nanoTime() - startNanos) / 1_000_000L);
+            return new Lease(socket, in, out, new URL(reply.substring("GRANTED ".length()).trim()));
+        } catch (SocketTimeoutException e) {
+            closeQuietly(socket);
+            throw new FrameworkException("Timed out after " + timeoutMillis + " ms waiting for a browser slot from the broker", e);
+        } catch (MalformedURLException e) {
+            closeQuietly(socket);
+            throw new FrameworkException("Browser broker returned an invalid service URL", e);
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw new FrameworkException("Lost connection to browser broker: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    /**
+     * Machine-wide browser cap of the running broker (started if needed)
+     * The broker's cap wins over broker.max.browsers when another fork started it
+     *
+     * @return max browsers the broker grants at once
+     * @throws FrameworkException if the broker cannot be reached
+     */
+    public static int getMaxBrowsers() {
+        try (Socket socket = connect()) {
+            socket.setSoTimeout(STATUS_TIMEOUT_MILLIS);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            return parseStatus(readStatus(in, out))[0];
+        } catch (IOException e) {
+            throw new FrameworkException("Could not read browser broker status: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Send STATUS and read its reply, skipping any other line
+     */
+    private static String readStatus(BufferedReader in, PrintWriter out) throws IOException {
+        out.println("STATUS");
+        String reply;
+        while ((reply = in.readLine()) != null) {
+            if (reply.startsWith("STATUS ")) {
+                return reply;
+            }
+            logger.debug("Skipping broker reply while waiting for STATUS: {}", reply);
+        }
+        throw new IOException("broker closed the connection");
+    }
+
+    /**
+     * @param reply "STATUS maxBrowsers inUse queued"
+     * @return {maxBrowsers, inUse, queued}
+     */
+    private static int[] parseStatus(String reply) throws IOException {
+        String[] parts = reply.trim().split("\\s+");
+        if (parts.length < 4) {
+            throw new IOException("invalid STATUS reply: " + reply);
+        }
+        try {
+            return new int[]{Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3])};
+        } catch (NumberFormatException e) {
+            throw new IOException("invalid STATUS reply: " + reply, e);
+        }
+    }
+
+    /**
+     * Connect to the broker, starting it first if nobody is listening
+     */
+    private static synchronized Socket connect() {
+        int port = ConfigManager.getBrokerPort();
+        try {
+            return new Socket(InetAddress.getLoopbackAddress(), port);
+        } catch (ConnectException e) {
+            logger.info("No browser broker on port {} - starting one", port);
+        } catch (IOException e) {
+            throw new FrameworkException("Cannot connect to browser broker on port " + port + ": " + e.getMessage(), e);
+        }
+
+        startBroker(port);
+        long deadline = System.currentTimeMillis() + BROKER_STARTUP_MILLIS;
+        while (true) {
+            try {
+                return new Socket(InetAddress.getLoopbackAddress(), port);
+            } catch (IOException e) {
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new FrameworkException("Browser broker did not start on port " + port + " within "
+                            + BROKER_STARTUP_MILLIS + " ms", e);
+                }
+                sleep(200);
+            }
+        }
+    }
+
+    /**
+     * Launch BrowserBroker in its own JVM with this JVM's classpath
+     * Output goes to target/browser-broker.log
+     */
+    private static void startBroker(int port) {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(java,
+                "-cp", System.getProperty("java.class.path"),
+                BrowserBroker.class.getName(),
+                String.valueOf(port),
+                String.valueOf(ConfigManager.getBrokerMaxBrowsers()),
+                String.valueOf(ConfigManager.getBrokerIdleTimeout()));
+        File log = new File("target/browser-broker.log");
+        log.getParentFile().mkdirs();
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(ProcessBuilder.Redirect.appendTo(log));
+        try {
+            builder.start();
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start browser broker: " + e.getMessage(), e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for browser broker to start", e);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("Error while closing broker connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A granted browser slot - held until close()
+     */
+    public static final class Lease implements Closeable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+        private final URL serviceUrl;
+        private boolean closed = false;
+
+        private Lease(Socket socket, BufferedReader in, PrintWriter out, URL serviceUrl) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+            this.serviceUrl = serviceUrl;
+        }
+
+        /**
+         * Tell the broker which session runs in this slot - it quits the session if the
+         * slot comes back while the session is still registered (crash, failed quit)
+         *
+         * @param sessionId id of the session opened on the service URL
+         */
+        public synchronized void registerSession(String sessionId) {
+            if (!closed) {
+                out.println("SESSION " + sessionId);
+            }
+        }
+
+        /**
+         * Tell the broker the session was quit - nothing left to clean up on release
+         */
+        public synchronized void sessionEnded() {
+            if (!closed) {
+                out.println("SESSION");
+            }
+        }
+
+        /**
+         * Check whether other leases wait for a slot - an idle holder should then give its slot back
+         *
+         * @return true if the broker has queued lease requests; false if not, or if the broker cannot be asked
+         */
+        public synchronized boolean isContended() {
+            if (closed) {
+                return false;
+            }
+            try {
+                socket.setSoTimeout(STATUS_TIMEOUT_MILLIS);
+                try {
+                    return parseStatus(readStatus(in, out))[2] > 0;
+                } finally {
+                    socket.setSoTimeout(0);
+                }
+            } catch (IOException e) {
+                logger.debug("Could not read broker queue: {}", e.getMessage());
+                return false;
+            }
+        }
+
+        /**
+         * @return URL of the broker's driver service for this browser
+         */
+        public URL getServiceUrl() {
+            return serviceUrl;
+        }
+
+        /**
+         * Return the slot to the broker - safe to call more than once
+         */
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            out.println("RELEASE");
+            closeQuietly(socket);
+        }
+    }
+}
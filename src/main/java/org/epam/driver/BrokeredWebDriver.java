@@ -0,0 +1,105 @@
+package org.epam.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * Brokered WebDriver - RemoteWebDriver session on a BrowserBroker driver service
+ *
+ * Holds the broker lease for as long as the session lives: quit() ends the session
+ * and returns the slot. The session id is registered with the broker, which quits the
+ * browser itself if the slot comes back with the session still open (crashed fork,
+ * failed quit). A pooled session (DriverPool) is quit instead of parked when other
+ * leases are queued at the broker (isSlotContended), so idle browsers of one fork do not
+ * starve the others.
+ *
+ * Chromium sessions (Chrome/Edge) also implement HasCdp through the driver service's
+ * vendor CDP endpoint, so context isolation and CDP cookie clearing keep working.
+ *
+ * Usage:
+ * WebDriver driver = BrokeredWebDriver.create(BrowserType.CHROME, lease, options);
+ * driver.quit();   // also releases the lease
+ */
+public class BrokeredWebDriver extends RemoteWebDriver {
+    private static final Logger logger = LoggerFactory.getLogger(BrokeredWebDriver.class);
+
+    private static final String EXECUTE_CDP = "executeCdpCommand";
+
+    private final BrokerClient.Lease lease;
+
+    private BrokeredWebDriver(HttpCommandExecutor executor, Capabilities capabilities, BrokerClient.Lease lease) {
+        super(executor, capabilities);
+        this.lease = lease;
+        lease.registerSession(getSessionId().toString());
+    }
+
+    /**
+     * @return true if other leases wait at the broker - an idle session should be quit to free its slot
+     */
+    public boolean isSlotContended() {
+        return lease.isContended();
+    }
+
+    /**
+     * Open a session on the leased driver service
+     * The lease is released if the session cannot be created
+     *
+     * @param browserType browser of the lease
+     * @param lease granted broker lease
+     * @param capabilities browser options built by BrowserFactory
+     * @return session that releases the lease on quit()
+     */
+    public static BrokeredWebDriver create(BrowserType browserType, BrokerClient.Lease lease, Capabilities capabilities) {
+        URL serviceUrl = lease.getServiceUrl();
+        try {
+            if (browserType == BrowserType.FIREFOX) {
+                return new BrokeredWebDriver(new HttpCommandExecutor(serviceUrl), capabilities, lease);
+            }
+            String vendor = browserType == BrowserType.EDGE ? "ms" : "goog";
+            HttpCommandExecutor executor = new HttpCommandExecutor(Map.of(EXECUTE_CDP,
+                    new CommandInfo("/session/:sessionId/" + vendor + "/cdp/execute", HttpMethod.POST)), serviceUrl);
+            return new Chromium(executor, capabilities, lease);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void quit() {
+        try {
+            super.quit();
+            lease.sessionEnded();
+        } finally {
+            lease.close();
+            logger.debug("Brokered session quit - lease released");
+        }
+    }
+
+    /**
+     * Chrome/Edge session with CDP access
+     */
+    private static final class Chromium extends BrokeredWebDriver implements HasCdp {
+
+        private Chromium(HttpCommandExecutor executor, Capabilities capabilities, BrokerClient.Lease lease) {
+            super(executor, capabilities, lease);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> executeCdpCommand(String commandName, Map<String, Object> parameters) {
+            Response response = execute(EXECUTE_CDP, Map.of("cmd", commandName, "params", parameters));
+            return (Map<String, Object>) response.getValue();
+        }
+    }
+}
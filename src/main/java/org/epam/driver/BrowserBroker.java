@@ -0,0 +1,351 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Browser Broker - One process per machine that caps browsers across surefire forks
+ *
+ * Runs in its own JVM (started on demand by BrokerClient) and owns the driver services
+ * (chromedriver / msedgedriver / geckodriver) and the browsers running on them. A fork
+ * leases a browser slot over a localhost socket and gets the URL of the broker's driver
+ * service; it then opens a RemoteWebDriver session against that URL and reports the
+ * session id. At most max-browsers slots are granted machine-wide, in request order
+ * (fair semaphore; a queued lease re-queues after each connection check, so forks
+ * that asked within LEASE_POLL_MILLIS of each other may be served in either order).
+ *
+ * Protocol (one line per message, one socket per lease; only LEASE and STATUS reply):
+ * LEASE chrome   → GRANTED http://localhost:port   (blocks while all slots are taken;
+ *                  a fork that disconnects while queued leaves the queue)
+ *                → ERROR message
+ * SESSION id     → the lease's browser session (sent once the session is open)
+ * SESSION        → the session was quit by the fork
+ * RELEASE        → slot returned (closing the socket does the same, so a crashed fork
+ *                  never keeps its slots)
+ * STATUS         → STATUS maxBrowsers inUse queued
+ *
+ * When a slot comes back while its session is still registered (the fork crashed, or
+ * its quit() failed), the broker quits the session on the driver service first, so the
+ * browser does not outlive its slot.
+ *
+ * The broker exits when no lease has been open for the idle timeout.
+ *
+ * Usage:
+ * java -cp &lt;test classpath&gt; org.epam.driver.BrowserBroker 4499 4 60
+ */
+public class BrowserBroker {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserBroker.class);
+
+    // Closing a browser can take a while - longer than a plain HTTP call
+    private static final int SESSION_QUIT_TIMEOUT_MILLIS = 30_000;
+    // How often a queued lease checks that its fork is still connected
+    private static final long LEASE_POLL_MILLIS = 500;
+
+    private final int port;
+    private final int maxBrowsers;
+    private final long idleTimeoutMillis;
+
+    private final Semaphore slots;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    // Leases waiting for a slot (reported by STATUS) - counted for the whole wait, not per poll
+    private final AtomicInteger queuedLeases = new AtomicInteger();
+    private final Map<BrowserType, DriverService> services = new EnumMap<>(BrowserType.class);
+    // Driver service URL per browser type - the broker's own services unless a test supplies them
+    private final Function<BrowserType, URL> serviceUrls;
+    private volatile long lastActivityMillis = System.currentTimeMillis();
+
+    /**
+     * @param port localhost port to listen on
+     * @param maxBrowsers machine-wide browser cap
+     * @param idleTimeoutSeconds exit after this long without any open lease
+     */
+    public BrowserBroker(int port, int maxBrowsers, int idleTimeoutSeconds) {
+        this(port, maxBrowsers, idleTimeoutSeconds, null);
+    }
+
+    /**
+     * @param serviceUrls driver service URL per browser type, or null for the broker's own services
+     */
+    BrowserBroker(int port, int maxBrowsers, int idleTimeoutSeconds, Function<BrowserType, URL> serviceUrls) {
+        if (maxBrowsers < 1) {
+            throw new FrameworkException("Broker browser cap must be at least 1, got: " + maxBrowsers);
+        }
+        this.port = port;
+        this.maxBrowsers = maxBrowsers;
+        this.idleTimeoutMillis = idleTimeoutSeconds * 1000L;
+        this.slots = new Semaphore(maxBrowsers, true);
+        this.serviceUrls = serviceUrls != null ? serviceUrls : browserType -> getService(browserType).getUrl();
+    }
+
+    /**
+     * Entry point of the broker process
+     *
+     * @param args port, max browsers, idle timeout in seconds
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(args[0]);
+        int maxBrowsers = Integer.parseInt(args[1]);
+        int idleTimeout = Integer.parseInt(args[2]);
+        new BrowserBroker(port, maxBrowsers, idleTimeout).serve();
+    }
+
+    /**
+     * Accept lease connections until the broker has been idle for the idle timeout
+     *
+     * @throws IOException if the port cannot be bound (usually: another broker already runs)
+     */
+    public void serve() throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            serve(server);
+        }
+    }
+
+    /**
+     * Accept lease connections on a bound server socket
+     */
+    void serve(ServerSocket server) throws IOException {
+        try {
+            server.setSoTimeout(1000);
+            logger.info("Browser broker listening on localhost:{} (max browsers: {})", server.getLocalPort(), maxBrowsers);
+
+            while (true) {
+                try {
+                    Socket socket = server.accept();
+                    openConnections.incrementAndGet();
+                    Thread handler = new Thread(() -> handle(socket), "broker-lease-" + socket.getPort());
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (SocketTimeoutException e) {
+                    if (openConnections.get() == 0
+                            && System.currentTimeMillis() - lastActivityMillis >= idleTimeoutMillis) {
+                        logger.info("Browser broker idle for {} s - shutting down", idleTimeoutMillis / 1000);
+                        break;
+                    }
+                }
+            }
+        } finally {
+            stopServices();
+        }
+    }
+
+    /**
+     * Serve one connection: at most one slot (and one browser session) is held per connection
+     */
+    private void handle(Socket socket) {
+        boolean holdsSlot = false;
+        URL serviceUrl = null;
+        String sessionId = null;
+        try (Socket connection = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(connection.getOutputStream(), true, StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                lastActivityMillis = System.currentTimeMillis();
+                String[] parts = line.trim().split("\\s+");
+                switch (parts[0]) {
+                    case "LEASE":
+                        if (holdsSlot) {
+                            out.println("ERROR connection already holds a lease");
+                            break;
+                        }
+                        try {
+                            BrowserType browserType = BrowserType.fromString(parts.length > 1 ? parts[1] : "chrome");
+                            if (!awaitSlot(connection, in)) {
+                                logger.info("Queued lease abandoned - fork disconnected before a slot was free");
+                                return;
+                            }
+                            holdsSlot = true;
+                            serviceUrl = serviceUrls.apply(browserType);
+                            out.println("GRANTED " + serviceUrl);
+                            logger.info("Lease granted ({}): {}/{} in use, {} queued", browserType,
+                                    maxBrowsers - slots.availablePermits(), maxBrowsers, queuedLeases.get());
+                        } catch (RuntimeException e) {
+                            if (holdsSlot) {
+                                slots.release();
+                                holdsSlot = false;
+                            }
+                            out.println("ERROR " + e.getMessage());
+                        }
+                        break;
+                    case "SESSION":
+                        // No reply - the fork does not read after the grant
+                        if (holdsSlot) {
+                            sessionId = parts.length > 1 ? parts[1] : null;
+                        } else {
+                            logger.warn("Ignoring SESSION on a connection without a lease");
+                        }
+                        break;
+                    case "RELEASE":
+                        if (holdsSlot) {
+                            quitSession(serviceUrl, sessionId);
+                            sessionId = null;
+                            slots.release();
+                            holdsSlot = false;
+                        }
+                        break;
+                    case "STATUS":
+                        out.println("STATUS " + maxBrowsers + " " + (maxBrowsers - slots.availablePermits()) + " "
+                                + queuedLeases.get());
+                        break;
+                    default:
+                        out.println("ERROR unknown command: " + parts[0]);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("Lease connection closed: {}", e.getMessage());
+        } finally {
+            if (holdsSlot) {
+                quitSession(serviceUrl, sessionId);
+                slots.release();
+                logger.info("Lease released on disconnect: {}/{} in use", maxBrowsers - slots.availablePermits(), maxBrowsers);
+            }
+            lastActivityMillis = System.currentTimeMillis();
+            openConnections.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wait for a slot while the fork is still connected
+     * A fork that timed out and closed its socket must not stay queued (it would make
+     * STATUS report contention) nor take a slot nobody will use.
+     *
+     * @return true if a slot was acquired; false if the fork disconnected first
+     */
+    private boolean awaitSlot(Socket connection, BufferedReader in) throws IOException, InterruptedException {
+        // Timed tryAcquire honours the fair queue (plain tryAcquire() would barge)
+        if (slots.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        queuedLeases.incrementAndGet();
+        try {
+            while (!slots.tryAcquire(LEASE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isDisconnected(connection, in)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            queuedLeases.decrementAndGet();
+        }
+    }
+
+    /**
+     * Peek for end of stream without consuming input - a queued fork sends nothing until granted
+     */
+    private static boolean isDisconnected(Socket connection, BufferedReader in) throws IOException {
+        if (in.ready()) {
+            return false;
+        }
+        int soTimeout = connection.getSoTimeout();
+        connection.setSoTimeout(1);
+        try {
+            in.mark(1);
+            if (in.read() < 0) {
+                return true;
+            }
+            in.reset();
+            return false;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } finally {
+            connection.setSoTimeout(soTimeout);
+        }
+    }
+
+    /**
+     * Quit a session the fork left behind (DELETE /session/id on the driver service)
+     * A session that is already gone answers with an error, which is only logged
+     */
+    private static void quitSession(URL serviceUrl, String sessionId) {
+        if (serviceUrl == null || sessionId == null) {
+            return;
+        }
+        HttpURLConnection connection = null;
+        try {
+            String base = serviceUrl.toString().replaceAll("/+$", "");
+            connection = (HttpURLConnection) new URL(base + "/session/" + sessionId).openConnection();
+            connection.setRequestMethod("DELETE");
+            connection.setConnectTimeout(SESSION_QUIT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(SESSION_QUIT_TIMEOUT_MILLIS);
+            int status = connection.getResponseCode();
+            logger.info("Quit abandoned session {} on {}: HTTP {}", sessionId, serviceUrl, status);
+        } catch (IOException e) {
+            logger.warn("Could not quit abandoned session {} on {}: {}", sessionId, serviceUrl, e.getMessage());
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Driver service of a browser type, started on first lease
+     */
+    private synchronized DriverService getService(BrowserType browserType) {
+        DriverService service = services.get(browserType);
+        if (service != null && service.isRunning()) {
+            return service;
+        }
+        if (browserType == BrowserType.CHROME) {
+            service = DriverResolver.getSharedChromeDriverService();
+        } else {
+            if (browserType == BrowserType.EDGE) {
+                // Same rule as BrowserFactory: a matching cached msedgedriver, otherwise Selenium Manager
+                DriverService edge = new EdgeDriverService.Builder().usingAnyFreePort().build();
+                edge.setExecutable(DriverResolver.resolveCachedDriverPath(BrowserType.EDGE)
+                        .orElseGet(() -> new DriverFinder(edge, new EdgeOptions()).getDriverPath()));
+                service = edge;
+            } else {
+                File driver = new File(DriverResolver.resolveDriverPath(browserType));
+                service = new GeckoDriverService.Builder().usingDriverExecutable(driver).usingAnyFreePort().build();
+            }
+            try {
+                service.start();
+            } catch (IOException e) {
+                throw new FrameworkException("Failed to start " + browserType + " driver service: " + e.getMessage(), e);
+            }
+        }
+        services.put(browserType, service);
+        logger.info("{} driver service running at: {}", browserType, service.getUrl());
+        return service;
+    }
+
+    private synchronized void stopServices() {
+        for (DriverService service : services.values()) {
+            try {
+                service.stop();
+            } catch (Exception e) {
+                logger.warn("Error while stopping driver service: {}", e.getMessage());
+            }
+        }
+        services.clear();
+    }
+}
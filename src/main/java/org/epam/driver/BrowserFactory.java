@@ -1,13 +1,15 @@
 package org.epam.driver;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.epam.config.ConfigManager;
@@ -27,6 +29,9 @@ import java.net.URL;
  * <p>
  * Usage:
  * WebDriver driver = BrowserFactory.createDriver(BrowserType.CHROME);
+ * <p>
+ * With broker.enabled=true the same options are used to open a RemoteWebDriver session
+ * on the machine-wide BrowserBroker instead of a local driver (see BrokerClient).
  */
 public class BrowserFactory {
     private static final Logger logger = LoggerFactory.getLogger(BrowserFactory.class);
@@ -73,8 +78,8 @@ public class BrowserFactory {
     private static WebDriver createChromeDriver() {
         logger.debug("Setting up Chrome WebDriver");
 
-        // Setup ChromeDriver binary automatically
-        WebDriverManager.chromedriver().setup();
+        // Resolve ChromeDriver binary once per JVM (offline cache first, WebDriverManager fallback)
+        DriverResolver.resolveDriverPath(BrowserType.CHROME);
         logger.debug("ChromeDriver binary setup complete");
 
         // Create Chrome options
@@ -102,6 +107,17 @@ public class BrowserFactory {
         }
 
         logger.debug("Chrome options configured");
+
+        if (ConfigManager.isBrokerEnabled()) {
+            return BrokerClient.createDriver(BrowserType.CHROME, options);
+        }
+        if (ConfigManager.isSharedChromeServiceEnabled()) {
+            // One chromedriver process serves every session; quit() ends only the session.
+            // Augmenter restores CDP access (HasCdp) on the RemoteWebDriver.
+            ChromeDriverService service = DriverResolver.getSharedChromeDriverService();
+            logger.debug("Creating Chrome session on shared service: {}", service.getUrl());
+            return new Augmenter().augment(new RemoteWebDriver(service.getUrl(), options));
+        }
         return new ChromeDriver(options);
     }
 
@@ -113,7 +129,8 @@ public class BrowserFactory {
     private static WebDriver createFirefoxDriver() {
         logger.debug("Setting up Firefox WebDriver");
 
-        System.setProperty("webdriver.gecko.driver", "src/main/resources/geckodriver.exe");
+        // Resolve GeckoDriver binary once per JVM (system property, drivers/ cache, bundled exe)
+        DriverResolver.resolveDriverPath(BrowserType.FIREFOX);
 
         logger.debug("GeckoDriver binary setup complete");
 
@@ -136,6 +153,9 @@ public class BrowserFactory {
         }
 
         logger.debug("Firefox options configured");
+        if (ConfigManager.isBrokerEnabled()) {
+            return BrokerClient.createDriver(BrowserType.FIREFOX, options);
+        }
         return new FirefoxDriver(options);
 
     }
@@ -151,7 +171,8 @@ public class BrowserFactory {
 // Set EdgeDriver mirror URL before setup
         System.setProperty("SE_MSEDGEDRIVER_MIRROR_URL", "https://msedgedriver.microsoft.com");
 
-// Setup EdgeDriver binary automatically
+// Use a configured or cached msedgedriver only when it matches the browser - otherwise Selenium Manager resolves it
+        DriverResolver.resolveCachedDriverPath(BrowserType.EDGE);
 
         EdgeOptions options = new EdgeOptions();
 
@@ -179,6 +200,9 @@ public class BrowserFactory {
 
         logger.debug("Edge options configured");
 
+        if (ConfigManager.isBrokerEnabled()) {
+            return BrokerClient.createDriver(BrowserType.EDGE, options);
+        }
         try {
             return new EdgeDriver(options);
         } catch (Exception e) {
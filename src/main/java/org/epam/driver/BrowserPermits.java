@@ -0,0 +1,92 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browser Permits - Caps how many tests hold a browser at the same time
+ *
+ * Decouples test concurrency (TestNG worker threads, test.concurrency) from browser
+ * concurrency (browser.concurrency). A test takes a permit before its browser is launched
+ * or leased and gives it back at teardown; tests beyond the cap wait in FIFO order
+ * (fair semaphore) without starting a browser.
+ *
+ * Usage:
+ * BrowserPermits permits = new BrowserPermits(3, 300);
+ * permits.acquire();   // before createDriver
+ * permits.release();   // after quitDriver
+ */
+public class BrowserPermits {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPermits.class);
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long timeoutMillis;
+
+    /**
+     * @param limit maximum number of browsers held by tests at once
+     * @param timeoutSeconds how long acquire() waits for a free permit
+     */
+    public BrowserPermits(int limit, int timeoutSeconds) {
+        if (limit < 1) {
+            throw new FrameworkException("Browser concurrency must be at least 1, got: " + limit);
+        }
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        logger.info("Browser concurrency capped at {} (permit timeout: {}s)", limit, timeoutSeconds);
+    }
+
+    /**
+     * Take a permit, waiting in line while all browsers are in use
+     *
+     * @throws FrameworkException if no permit is free within the timeout, or on interrupt
+     */
+    public void acquire() {
+        long startNanos = System.nanoTime();
+        try {
+            // The timed form honours fairness: a free permit is not taken ahead of queued tests
+            if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            logger.debug("All {} browser permits in use - waiting ({} queued)", limit, permits.getQueueLength());
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new FrameworkException("Timed out after " + timeoutMillis + " ms waiting for a browser permit. All "
+                        + limit + " browsers are in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for a browser permit", e);
+        }
+        logger.debug("Browser permit acquired after {} ms", (System.nanoTime() - startNanos) / 1_000_000L);
+    }
+
+    /**
+     * Give back a permit taken by acquire()
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return permits not held by any test
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return estimate of tests waiting for a permit
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+}
@@ -7,42 +7,93 @@ import org.epam.config.ConfigManager;
 import org.epam.exceptions.ConfigurationException;
 import org.epam.exceptions.FrameworkException;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Driver Manager - Manages WebDriver lifecycle with ThreadLocal for parallel execution
+ * Driver Manager - Manages WebDriver lifecycle with a per-test TestContext
  *
  * Design Patterns Used:
- * 1. Singleton Pattern: Single instance per thread (ThreadLocal)
+ * 1. Context Object: one TestContext per test (driver, config snapshot, metrics, artifacts)
  * 2. Factory Pattern: BrowserFactory creates drivers
  *
  * Usage:
- * DriverManager.createDriver();    // Creates driver (before each test)
+ * TestContext context = DriverManager.createDriver("LoginTest.testValidLogin");   // before each test
  * WebDriver driver = DriverManager.getDriver();
  * DriverManager.quitDriver();      // Closes driver (after each test)
  *
+ * Session Pooling (driver.pool.enabled=true):
+ * createDriver() leases a live browser from DriverPool and quitDriver() resets and
+ * returns it, so a worker thread pays the browser launch once instead of per test.
+ * DriverManager.shutdownPool() quits pooled browsers at suite end.
+ *
+ * Context Isolation (driver.context.isolation=true with driver.pool.enabled=true, Chrome/Edge):
+ * each test runs in its own CDP browser context (separate cookies and storage)
+ * inside the pooled browser process; the context is disposed in quitDriver().
+ * Without the pool every test already has a fresh browser, so no context is opened.
+ *
+ * Browser Concurrency (browser.concurrency):
+ * createDriver() takes a BrowserPermits permit before a browser is launched or leased and
+ * quitDriver() gives it back, so more test threads (test.concurrency) than browsers can run;
+ * the extra tests queue for a permit instead of starting browsers.
+ *
  * Thread Safety:
- * ThreadLocal ensures each thread has its own WebDriver instance
- * Safe for parallel test execution
+ * The context is bound to the test thread (TestContext.current()); tasks on other
+ * threads get it through TestContext.wrap() or the explicit handle.
+ * quitDriver() always unbinds the context and returns the browser permit, even when
+ * closing the browser fails, so nothing is left behind on pooled or reused threads.
  */
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
 
-    // ThreadLocal for parallel execution - each thread gets its own driver
-    private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    // Global cap on browsers held by tests - created on first use
+    private static volatile BrowserPermits browserPermits;
+
+    // Session pools per browser type - only used when driver.pool.enabled=true
+    private static final Map<BrowserType, DriverPool> pools = new ConcurrentHashMap<>();
 
     /**
-     * Get the WebDriver instance for current thread
+     * Get the WebDriver instance of the current test
      * @return WebDriver instance
      * @throws FrameworkException if driver not initialized
      */
     public static WebDriver getDriver() {
-        WebDriver driverInstance = driver.get();
+        TestContext context = TestContext.currentOrNull();
 
-        if (driverInstance == null) {
+        if (context == null) {
             logger.error("WebDriver not initialized for current thread. Call DriverManager.createDriver() first.");
             throw new FrameworkException("WebDriver not initialized. Please ensure DriverManager.createDriver() was called in @BeforeMethod");
         }
-        return driverInstance;
+        return context.getDriver();
+    }
+
+    /**
+     * Get the context of the test running on this thread
+     * @return TestContext of the current test
+     * @throws FrameworkException if no test context is bound
+     */
+    public static TestContext getContext() {
+        return TestContext.current();
+    }
+
+    /**
+     * Get the network monitor of the current test's session, attaching it on first use
+     * Attach before navigating - requests sent earlier are not tracked
+     *
+     * @return NetworkMonitor for the current driver
+     * @throws FrameworkException if driver not initialized
+     */
+    public static NetworkMonitor getNetworkMonitor() {
+        return TestContext.current().getNetworkMonitor();
+    }
+
+    /**
+     * Create a driver for a test without a name (uses the thread name)
+     *
+     * @return context of the new test, also bound to the current thread
+     */
+    public static TestContext createDriver() {
+        return createDriver(Thread.currentThread().getName());
     }
 
     /**
@@ -58,68 +109,53 @@ public class DriverManager {
      * Example usage:
      * mvn test -Dbrowser=firefox
      * mvn test -Dbrowser=edge
+     *
+     * @param testName name of the test, used in logs and reports
+     * @return context of the new test, also bound to the current thread
      */
-    public static void createDriver() {
-        logger.info("Initializing WebDriver");
+    public static TestContext createDriver(String testName) {
+        logger.info("Initializing WebDriver for: {}", testName);
 
         try {
-            // Get browser type from system property or config
-            String browserName = System.getProperty("browser", ConfigManager.getBrowser());
-            logger.info("Browser requested: {}", browserName);
-
-            if (browserName == null || browserName.trim().isEmpty()) {
-                throw new ConfigurationException("Browser name is null or empty. Please set browser in config.properties or via -Dbrowser=<name>");
-            }
+            BrowserType browserType = resolveBrowserType();
 
-            // Convert string to BrowserType enum
-            BrowserType browserType = null;
-            try {
-                browserType = BrowserType.fromString(browserName);
-                logger.info("Browser type resolved to: {}", browserType);
-            } catch (IllegalArgumentException e) {
-                throw new ConfigurationException("Invalid browser type: " + browserName + ". Supported: chrome, firefox, edge", e);
-            }
+            // Wait for a free browser slot before launching or leasing anything
+            // The permit belongs to the test context from here on - quitDriver() returns it
+            BrowserPermits permits = getBrowserPermits();
+            permits.acquire();
 
-            // Use factory to create driver
+            // Until the context is bound, any failure must return the browser and the permit
+            boolean pooled = ConfigManager.isDriverPoolEnabled();
             WebDriver webDriver = null;
+            BrowserContextManager.IsolatedContext isolated = null;
             try {
-                webDriver = BrowserFactory.createDriver(browserType);
-                logger.info("WebDriver created successfully for: {}", browserType);
-            } catch (Exception e) {
-                throw new FrameworkException("Failed to create WebDriver for browser: " + browserType + ". Ensure required drivers are installed.", e);
-            }
-
-            driver.set(webDriver);
-
-            try {
-                // Configure timeouts (in seconds)
-                int timeout = ConfigManager.getTimeout();
-                logger.debug("Setting implicit wait timeout: {} seconds", timeout);
-                getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(timeout));
-
-                // Configure page load timeout
-                int pageLoadTimeout = 30;
-                logger.debug("Setting page load timeout: {} seconds", pageLoadTimeout);
-                getDriver().manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
-
-                // Configure script timeout
-                int scriptTimeout = 30;
-                logger.debug("Setting script timeout: {} seconds", scriptTimeout);
-                getDriver().manage().timeouts().scriptTimeout(Duration.ofSeconds(scriptTimeout));
-
-                // Maximize window (unless in headless mode)
-                if (!ConfigManager.isHeadless()) {
-                    logger.debug("Maximizing browser window");
-                    getDriver().manage().window().maximize();
+                // Lease from the session pool, or launch a dedicated browser
+                if (pooled) {
+                    webDriver = getPool(browserType).lease();
+                    logger.info("WebDriver leased from pool for: {}", browserType);
                 } else {
-                    logger.debug("Headless mode enabled - skipping window maximization");
+                    webDriver = launchDriver(browserType);
+                }
+
+                // Give the test its own CDP browser context inside the reused browser process
+                if (pooled && ConfigManager.isContextIsolationEnabled() && BrowserContextManager.isSupported(webDriver)) {
+                    try {
+                        isolated = BrowserContextManager.open(webDriver);
+                    } catch (Exception e) {
+                        logger.warn("Could not open isolated browser context - test runs in default context: {}", e.getMessage());
+                    }
                 }
-            } catch (Exception e) {
-                logger.error("Failed to configure WebDriver timeouts and window", e);
-                throw new FrameworkException("Failed to configure WebDriver: " + e.getMessage(), e);
-            }
 
-            logger.info("WebDriver initialized successfully for: {}", browserName);
+                TestContext context = new TestContext(testName, webDriver, isolated, ConfigManager.getSnapshot());
+                TestContext.bind(context);
+
+                logger.info("WebDriver initialized successfully for: {}", browserType.getBrowserName());
+                return context;
+            } catch (RuntimeException e) {
+                discardUnboundDriver(webDriver, isolated);
+                permits.release();
+                throw e;
+            }
 
         } catch (FrameworkException e) {
             logger.error("Framework exception during driver creation: {}", e.getMessage());
@@ -131,27 +167,269 @@ public class DriverManager {
     }
 
     /**
-     * Close WebDriver and cleanup ThreadLocal
+     * Implicit wait applied to every driver created by this manager
+     * Page objects use it to restore the wait after a zero-wait probe
      *
-     * Called from AfterMethod in BaseTest
+     * @return zero in explicit-only mode (wait.explicit.only), otherwise the global timeout
+     */
+    public static Duration getImplicitWait() {
+        if (ConfigManager.isExplicitWaitOnly()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds(ConfigManager.getTimeout());
+    }
+
+    /**
+     * Start launching pooled browsers in the background
+     *
+     * Called from BeforeSuite in BaseTest so the first test on each thread
+     * finds an already running browser. Returns immediately.
+     * No-op when pooling is disabled.
+     */
+    public static void warmUpPool() {
+        if (!ConfigManager.isDriverPoolEnabled()) {
+            logger.debug("Driver pool disabled - skipping warm-up");
+            return;
+        }
+        try {
+            BrowserType browserType = resolveBrowserType();
+            getPool(browserType).warmUp(ConfigManager.getDriverPoolWarmupCount());
+        } catch (Exception e) {
+            // Warm-up is an optimisation - tests will launch browsers on demand
+            logger.warn("Driver pool warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Resolve browser type from system property or config
+     *
+     * @return requested BrowserType
+     * @throws ConfigurationException if browser name is missing or invalid
+     */
+    private static BrowserType resolveBrowserType() {
+        String browserName = System.getProperty("browser", ConfigManager.getBrowser());
+        logger.info("Browser requested: {}", browserName);
+
+        if (browserName == null || browserName.trim().isEmpty()) {
+            throw new ConfigurationException("Browser name is null or empty. Please set browser in config.properties or via -Dbrowser=<name>");
+        }
+
+        // Convert string to BrowserType enum
+        try {
+            BrowserType browserType = BrowserType.fromString(browserName);
+            logger.info("Browser type resolved to: {}", browserType);
+            return browserType;
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("Invalid browser type: " + browserName + ". Supported: chrome, firefox, edge", e);
+        }
+    }
+
+    /**
+     * Launch a new browser through BrowserFactory and apply timeouts and window settings
+     *
+     * @param browserType the browser to launch
+     * @return fully configured WebDriver
+     * @throws FrameworkException if the browser cannot be started or configured
+     */
+    private static WebDriver launchDriver(BrowserType browserType) {
+        WebDriver webDriver;
+        try {
+            webDriver = BrowserFactory.createDriver(browserType);
+            logger.info("WebDriver created successfully for: {}", browserType);
+        } catch (Exception e) {
+            throw new FrameworkException("Failed to create WebDriver for browser: " + browserType + ". Ensure required drivers are installed.", e);
+        }
+
+        try {
+            // Configure timeouts (in seconds)
+            Duration implicitWait = getImplicitWait();
+            logger.debug("Setting implicit wait timeout: {} seconds", implicitWait.getSeconds());
+            webDriver.manage().timeouts().implicitlyWait(implicitWait);
+
+            // Configure page load timeout
+            int pageLoadTimeout = 30;
+            logger.debug("Setting page load timeout: {} seconds", pageLoadTimeout);
+            webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
+
+            // Configure script timeout
+            int scriptTimeout = 30;
+            logger.debug("Setting script timeout: {} seconds", scriptTimeout);
+            webDriver.manage().timeouts().scriptTimeout(Duration.ofSeconds(scriptTimeout));
+
+            // Maximize window (unless in headless mode)
+            if (!ConfigManager.isHeadless()) {
+                logger.debug("Maximizing browser window");
+                webDriver.manage().window().maximize();
+            } else {
+                logger.debug("Headless mode enabled - skipping window maximization");
+            }
+        } catch (Exception e) {
+            logger.error("Failed to configure WebDriver timeouts and window", e);
+            try {
+                webDriver.quit();
+            } catch (Exception quitError) {
+                logger.warn("Error while quitting unconfigured WebDriver: {}", quitError.getMessage());
+            }
+            throw new FrameworkException("Failed to configure WebDriver: " + e.getMessage(), e);
+        }
+        return webDriver;
+    }
+
+    /**
+     * Give back a driver whose test context was never bound (createDriver failed half-way)
+     * Pooled drivers go back to their pool, dedicated drivers are quit
+     *
+     * @param webDriver leased or launched driver, or null if none was obtained
+     * @param isolated isolated context opened on it, or null
+     */
+    private static void discardUnboundDriver(WebDriver webDriver, BrowserContextManager.IsolatedContext isolated) {
+        if (webDriver == null) {
+            return;
+        }
+        try {
+            if (isolated != null) {
+                BrowserContextManager.close(webDriver, isolated);
+            }
+        } catch (Exception e) {
+            logger.warn("Error while disposing isolated browser context: {}", e.getMessage());
+        }
+        try {
+            DriverPool pool = findLeasingPool(webDriver);
+            if (pool != null) {
+                pool.release(webDriver);
+            } else {
+                webDriver.quit();
+            }
+        } catch (Exception e) {
+            logger.warn("Error while discarding WebDriver after failed initialization: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get (or lazily create) the global browser permits
+     *
+     * @return BrowserPermits sized by browser.concurrency
+     */
+    private static BrowserPermits getBrowserPermits() {
+        BrowserPermits permits = browserPermits;
+        if (permits == null) {
+            synchronized (DriverManager.class) {
+                permits = browserPermits;
+                if (permits == null) {
+                    permits = new BrowserPermits(ConfigManager.getBrowserConcurrency(),
+                            ConfigManager.getBrowserPermitTimeout());
+                    browserPermits = permits;
+                }
+            }
+        }
+        return permits;
+    }
+
+    /**
+     * Get (or lazily create) the session pool for a browser type
+     *
+     * @param browserType the browser the pool serves
+     * @return shared DriverPool for that browser
+     */
+    private static DriverPool getPool(BrowserType browserType) {
+        return pools.computeIfAbsent(browserType, type -> new DriverPool(
+                type,
+                getPoolMaxSize(),
+                ConfigManager.getDriverPoolMaxUses(),
+                ConfigManager.getDriverPoolLeaseTimeout(),
+                () -> launchDriver(type)));
+    }
+
+    /**
+     * driver.pool.max.size, capped by the broker's machine-wide browser cap when brokered
+     * A pool larger than the broker grants would only hold slots other forks wait for
+     */
+    private static int getPoolMaxSize() {
+        int maxSize = ConfigManager.getDriverPoolMaxSize();
+        if (!ConfigManager.isBrokerEnabled()) {
+            return maxSize;
+        }
+        int brokerMax = BrokerClient.getMaxBrowsers();
+        if (brokerMax < maxSize) {
+            logger.info("Driver pool size capped at the broker's {} browsers (driver.pool.max.size={})", brokerMax, maxSize);
+            return brokerMax;
+        }
+        return maxSize;
+    }
+
+    /**
+     * Quit every pooled browser session
      *
-     * Important: Must call driver.remove() to prevent memory leaks in parallel execution
+     * Called from AfterSuite in BaseTest
+     * Safe to call when pooling is disabled (no-op)
+     */
+    public static void shutdownPool() {
+        for (DriverPool pool : pools.values()) {
+            try {
+                pool.shutdown();
+            } catch (Exception e) {
+                logger.error("Error while shutting down driver pool: {}", e.getMessage(), e);
+            }
+        }
+        pools.clear();
+    }
+
+    /**
+     * Close the current test's WebDriver and end its context
+     *
+     * Called from AfterMethod in BaseTest
      */
     public static void quitDriver() {
+        TestContext context = TestContext.currentOrNull();
+        if (context == null) {
+            logger.warn("WebDriver is null - skipping quit operation");
+            return;
+        }
+        quitDriver(context);
+    }
+
+    /**
+     * Close a test's WebDriver and end its context - callable from any thread
+     *
+     * Important: the context is unbound and the browser permit returned in all cases,
+     * including when closing the browser throws
+     *
+     * @param context handle returned by createDriver()
+     */
+    public static void quitDriver(TestContext context) {
+        if (!context.end()) {
+            logger.debug("{} already ended - skipping quit operation", context);
+            return;
+        }
+        WebDriver driverInstance = context.getDriver();
         try {
-            WebDriver driverInstance = driver.get();
-            if (driverInstance != null) {
+            NetworkMonitor monitor = context.getAttachedNetworkMonitor();
+            if (monitor != null) {
+                monitor.close();
+            }
+
+            BrowserContextManager.IsolatedContext isolated = context.getIsolatedContext();
+            if (isolated != null) {
                 try {
+                    BrowserContextManager.close(driverInstance, isolated);
+                } catch (Exception e) {
+                    logger.warn("Error while disposing isolated browser context: {}", e.getMessage());
+                }
+            }
+
+            try {
+                DriverPool pool = findLeasingPool(driverInstance);
+                if (pool != null) {
+                    logger.info("Returning WebDriver to pool");
+                    pool.release(driverInstance);
+                } else {
                     logger.info("Closing WebDriver");
                     driverInstance.quit();
                     logger.debug("WebDriver quit successfully");
-                } catch (Exception e) {
-                    logger.error("Error while quitting WebDriver: {}", e.getMessage(), e);
-                    // Don't throw - we still need to cleanup ThreadLocal
-                    throw new FrameworkException("Failed to properly close WebDriver: " + e.getMessage(), e);
                 }
-            } else {
-                logger.warn("WebDriver is null - skipping quit operation");
+            } catch (Exception e) {
+                logger.error("Error while quitting WebDriver: {}", e.getMessage(), e);
+                throw new FrameworkException("Failed to properly close WebDriver: " + e.getMessage(), e);
             }
         } catch (FrameworkException e) {
             logger.error("Framework exception during driver cleanup: {}", e.getMessage());
@@ -159,14 +437,23 @@ public class DriverManager {
         } catch (Exception e) {
             logger.error("Unexpected exception during driver quit: {}", e.getMessage(), e);
         } finally {
-            try {
-                // Always remove ThreadLocal to prevent memory leaks
-                driver.remove();
-                logger.debug("ThreadLocal WebDriver removed successfully");
-            } catch (Exception e) {
-                logger.error("Error while removing ThreadLocal driver: {}", e.getMessage(), e);
+            // Always end the context, even if quit failed
+            if (TestContext.currentOrNull() == context) {
+                TestContext.unbind();
+            }
+            getBrowserPermits().release();
+            logger.debug("{} ended after {} ms - metrics: {}, artifacts: {}", context, context.getElapsedMillis(),
+                    context.getMetrics(), context.getArtifacts().size());
+        }
+    }
+
+    private static DriverPool findLeasingPool(WebDriver driverInstance) {
+        for (DriverPool pool : pools.values()) {
+            if (pool.isLeased(driverInstance)) {
+                return pool;
             }
         }
+        return null;
     }
 
     /**
@@ -0,0 +1,453 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.epam.utils.VirtualThreads;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Driver Pool - Bounded, thread-safe pool of live WebDriver sessions
+ *
+ * Instead of launching a new browser for every test, a driver is leased from the pool,
+ * reset on return (cookies, localStorage, sessionStorage, extra windows) and handed to
+ * the next test. A session is quit and replaced after a configurable number of uses.
+ *
+ * Lifecycle:
+ * warmUp()   → pre-launch sessions in the background (at suite start)
+ * lease()    → reuse an idle session, or launch a new one while below max size,
+ *              otherwise block until a session is returned; on reuse, the other idle
+ *              BrokeredWebDrivers are quit while other forks wait for broker slots
+ * release()  → reset and park the session, or quit it when worn out / broken, or when
+ *              other forks wait for its broker slot (BrokeredWebDriver)
+ * shutdown() → quit every idle session (called once at suite end)
+ *
+ * Usage:
+ * DriverPool pool = new DriverPool(BrowserType.CHROME, 3, 20, 60, factory);
+ * WebDriver driver = pool.lease();
+ * pool.release(driver);
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private final BrowserType browserType;
+    private final int maxSize;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+    private final Supplier<WebDriver> factory;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition sessionAvailable = lock.newCondition();
+
+    // Idle sessions - LIFO so the most recently used (warmest) browser is reused first
+    private final Deque<PooledDriver> idle = new ArrayDeque<>();
+    // Sessions currently leased to tests
+    private final Map<WebDriver, PooledDriver> leased = new IdentityHashMap<>();
+    // Live sessions (idle + leased + being launched)
+    private int liveCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Constructor
+     *
+     * @param browserType browser this pool serves (for logging)
+     * @param maxSize maximum number of live browser sessions
+     * @param maxUses number of tests a session serves before it is recycled
+     * @param leaseTimeoutSeconds how long lease() blocks when the pool is exhausted
+     * @param factory creates a fully configured WebDriver
+     */
+    public DriverPool(BrowserType browserType, int maxSize, int maxUses, int leaseTimeoutSeconds,
+                      Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new FrameworkException("Driver pool size must be at least 1, got: " + maxSize);
+        }
+        this.browserType = browserType;
+        this.maxSize = maxSize;
+        this.maxUses = Math.max(1, maxUses);
+        this.leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds);
+        this.factory = factory;
+        logger.info("Driver pool created for {} (max size: {}, max uses: {}, lease timeout: {}s)",
+                browserType, maxSize, this.maxUses, leaseTimeoutSeconds);
+    }
+
+    /**
+     * Lease a live WebDriver from the pool
+     *
+     * @return a reset, ready-to-use WebDriver
+     * @throws FrameworkException if no session becomes available within the lease timeout
+     */
+    public WebDriver lease() {
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+        WebDriver reused = null;
+
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new FrameworkException("Driver pool for " + browserType + " is shut down");
+                }
+
+                PooledDriver pooled = idle.pollFirst();
+                if (pooled != null) {
+                    leased.put(pooled.driver, pooled);
+                    logger.debug("Leased pooled {} session (uses so far: {})", browserType, pooled.uses);
+                    reused = pooled.driver;
+                    break;
+                }
+
+                if (liveCount < maxSize) {
+                    // Reserve a slot and launch outside the lock
+                    liveCount++;
+                    break;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new FrameworkException("Timed out after " + leaseTimeoutMillis + " ms waiting for a "
+                            + browserType + " session. All " + maxSize + " pooled sessions are in use");
+                }
+                logger.debug("Driver pool exhausted ({} live) - waiting for a session", liveCount);
+                sessionAvailable.await(remaining, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for a pooled " + browserType + " session", e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (reused != null) {
+            evictIdleIfContended();
+            return reused;
+        }
+        return launch();
+    }
+
+    /**
+     * Quit the idle brokered sessions while other forks wait for a broker slot
+     * release() only sees a queue that exists when a session comes back; one that forms
+     * later would otherwise leave this fork's idle browsers holding the slots.
+     */
+    private void evictIdleIfContended() {
+        BrokeredWebDriver probe = null;
+        lock.lock();
+        try {
+            for (PooledDriver pooled : idle) {
+                if (pooled.driver instanceof BrokeredWebDriver) {
+                    probe = (BrokeredWebDriver) pooled.driver;
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // One STATUS round-trip outside the lock - every lease of this pool talks to the same broker
+        if (probe == null || !probe.isSlotContended()) {
+            return;
+        }
+
+        List<PooledDriver> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Iterator<PooledDriver> it = idle.iterator();
+            while (it.hasNext()) {
+                PooledDriver pooled = it.next();
+                if (pooled.driver instanceof BrokeredWebDriver) {
+                    it.remove();
+                    evicted.add(pooled);
+                }
+            }
+            liveCount -= evicted.size();
+            sessionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        logger.info("Other forks wait for a browser slot - quitting {} idle {} session(s)", evicted.size(), browserType);
+        for (PooledDriver pooled : evicted) {
+            quitQuietly(pooled.driver);
+        }
+    }
+
+    /**
+     * Launch sessions in the background so the first tests find a running browser
+     *
+     * Warm-up slots count towards max size, so a test that leases while a warm-up launch
+     * is still in flight waits for that browser instead of starting an extra one.
+     *
+     * @param count number of sessions to pre-launch (capped at free pool capacity)
+     */
+    public void warmUp(int count) {
+        int toLaunch;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            toLaunch = Math.max(0, Math.min(count, maxSize - liveCount));
+            liveCount += toLaunch;
+        } finally {
+            lock.unlock();
+        }
+
+        if (toLaunch == 0) {
+            logger.debug("Driver pool for {} already at capacity - nothing to warm up", browserType);
+            return;
+        }
+
+        logger.info("Warming up {} {} session(s) in the background", toLaunch, browserType);
+        // Launches block on driver HTTP calls - virtual threads when the JVM provides them
+        ExecutorService launcher = VirtualThreads.newPerTaskExecutor("driver-pool-warmup-" + browserType.getBrowserName());
+        for (int i = 0; i < toLaunch; i++) {
+            launcher.submit(this::launchIdle);
+        }
+        // Let submitted launches finish, then let the threads die
+        launcher.shutdown();
+    }
+
+    /**
+     * Launch a session into a slot reserved by warmUp() and park it as idle
+     */
+    private void launchIdle() {
+        long startTime = System.currentTimeMillis();
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (Exception e) {
+            logger.warn("Warm-up launch of {} session failed: {}", browserType, e.getMessage());
+            releaseSlot();
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (!closed) {
+                idle.addLast(new PooledDriver(driver));
+                sessionAvailable.signal();
+                logger.info("Warm {} session ready in {} ms ({} idle)", browserType,
+                        System.currentTimeMillis() - startTime, idle.size());
+                return;
+            }
+            liveCount--;
+        } finally {
+            lock.unlock();
+        }
+        quitQuietly(driver);
+    }
+
+    /**
+     * Return a leased WebDriver to the pool
+     * The session is reset and parked, or quit if it has reached max uses or cannot be reset
+     *
+     * @param driver the driver previously obtained from lease()
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled;
+        lock.lock();
+        try {
+            pooled = leased.remove(driver);
+        } finally {
+            lock.unlock();
+        }
+
+        if (pooled == null) {
+            logger.warn("Driver was not leased from this pool - quitting it directly");
+            quitQuietly(driver);
+            return;
+        }
+
+        pooled.uses++;
+        if (pooled.uses >= maxUses) {
+            logger.info("Recycling {} session after {} uses", browserType, pooled.uses);
+            discard(pooled);
+            return;
+        }
+
+        if (driver instanceof BrokeredWebDriver && ((BrokeredWebDriver) driver).isSlotContended()) {
+            // An idle browser would hold a machine-wide slot that another fork is waiting for
+            logger.info("Other forks wait for a browser slot - quitting {} session instead of parking it", browserType);
+            discard(pooled);
+            return;
+        }
+
+        if (!resetSession(driver)) {
+            logger.warn("Failed to reset {} session - discarding it", browserType);
+            discard(pooled);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                liveCount--;
+            } else {
+                idle.addFirst(pooled);
+                sessionAvailable.signal();
+                logger.debug("{} session returned to pool ({} idle)", browserType, idle.size());
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        quitQuietly(driver);
+    }
+
+    /**
+     * Quit every idle session and refuse further leases
+     * Leased sessions are quit as they are released
+     */
+    public void shutdown() {
+        Deque<PooledDriver> toQuit;
+        lock.lock();
+        try {
+            closed = true;
+            toQuit = new ArrayDeque<>(idle);
+            liveCount -= idle.size();
+            idle.clear();
+            sessionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        logger.info("Shutting down {} driver pool - quitting {} idle session(s)", browserType, toQuit.size());
+        for (PooledDriver pooled : toQuit) {
+            quitQuietly(pooled.driver);
+        }
+    }
+
+    /**
+     * Check whether a driver is currently leased from this pool
+     *
+     * @param driver driver to check
+     * @return true if the driver belongs to this pool and is leased
+     */
+    public boolean isLeased(WebDriver driver) {
+        lock.lock();
+        try {
+            return leased.containsKey(driver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Launch a new session into a slot already reserved by lease()
+     */
+    private WebDriver launch() {
+        WebDriver driver;
+        try {
+            logger.info("Launching new pooled {} session", browserType);
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            releaseSlot();
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            leased.put(driver, new PooledDriver(driver));
+        } finally {
+            lock.unlock();
+        }
+        return driver;
+    }
+
+    private void discard(PooledDriver pooled) {
+        quitQuietly(pooled.driver);
+        releaseSlot();
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            liveCount--;
+            sessionAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bring a session back to a clean state for the next test
+     *
+     * Steps:
+     * 1. Close every window except the first
+     * 2. Clear localStorage and sessionStorage of the current origin
+     * 3. Delete cookies (all origins on Chromium via CDP, current origin otherwise)
+     * 4. Park the session on about:blank
+     *
+     * @param driver session to reset
+     * @return true if the session is healthy and clean
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String mainHandle = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(mainHandle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(mainHandle);
+
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (Exception e) {
+                // about:blank and data: URLs have no storage - nothing to clear
+                logger.debug("Storage not cleared (no accessible origin): {}", e.getMessage());
+            }
+
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.navigate().to("about:blank");
+            logger.debug("{} session reset successfully", browserType);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Error while resetting {} session: {}", browserType, e.getMessage());
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error while quitting pooled {} session: {}", browserType, e.getMessage());
+        }
+    }
+
+    /**
+     * A pooled session and how many tests it has served
+     */
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int uses = 0;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package org.epam.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.epam.config.ConfigManager;
+import org.epam.exceptions.ConfigurationException;
+import org.epam.exceptions.FrameworkException;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Driver Resolver - Resolves browser driver binaries once per JVM
+ *
+ * Resolution order (first hit wins, result memoized per BrowserType):
+ * 1. System property already set (e.g. -Dwebdriver.chrome.driver=/path/chromedriver)
+ * 2. Offline lookup in the WebDriverManager cache (drivers/) using resolution.properties
+ * 3. Bundled binary in src/main/resources (legacy geckodriver location)
+ * 4. WebDriverManager setup (network) - skipped when driver.resolver.offline=true
+ *
+ * The resolved path is exported as the driver system property so neither WebDriverManager
+ * nor Selenium Manager runs again for later sessions, even from parallel threads.
+ *
+ * Edge is left to Selenium Manager (msedgedriver mirror, see BrowserFactory) unless
+ * resolveCachedDriverPath() finds a system property or a cached msedgedriver whose major
+ * version matches the browser version WebDriverManager recorded - a stale cached driver
+ * must not override Selenium Manager's match for the installed browser.
+ *
+ * Also owns the single ChromeDriverService shared by all Chrome sessions when
+ * driver.chrome.shared.service=true.
+ *
+ * Usage:
+ * String path = DriverResolver.resolveDriverPath(BrowserType.CHROME);
+ * Optional&lt;String&gt; edge = DriverResolver.resolveCachedDriverPath(BrowserType.EDGE);
+ */
+public class DriverResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverResolver.class);
+
+    private static final String RESOLUTION_CACHE_FILE = "resolution.properties";
+    private static final String BUNDLED_DRIVER_DIR = "src/main/resources";
+    // Format written by WebDriverManager, e.g. "01:13:46 26/12/2025 IST". The zone abbreviation is
+    // ambiguous (IST: India, Israel, Ireland), so only the local date-time is parsed and the offset
+    // of this machine's zone - the zone WebDriverManager wrote it in - is applied explicitly
+    private static final DateTimeFormatter TTL_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
+
+    private static final Map<BrowserType, String> resolvedPaths = new ConcurrentHashMap<>();
+    // Results of resolveCachedDriverPath - empty when the browser is left to Selenium Manager
+    private static final Map<BrowserType, Optional<String>> cachedOnlyPaths = new ConcurrentHashMap<>();
+
+    private static volatile ChromeDriverService sharedChromeService;
+
+    /**
+     * Get the driver binary path for a browser, resolving it on first use only
+     *
+     * @param browserType the browser
+     * @return absolute path to the driver binary
+     * @throws ConfigurationException if offline and no cached driver exists
+     */
+    public static String resolveDriverPath(BrowserType browserType) {
+        return resolvedPaths.computeIfAbsent(browserType, DriverResolver::resolve);
+    }
+
+    /**
+     * Get the driver binary path only if it needs no download and matches the browser
+     * Never calls WebDriverManager. A hit is exported as the driver system property;
+     * otherwise nothing is set and Selenium Manager resolves the driver as usual.
+     *
+     * @param browserType the browser
+     * @return configured or matching cached driver path, or empty
+     */
+    public static Optional<String> resolveCachedDriverPath(BrowserType browserType) {
+        return cachedOnlyPaths.computeIfAbsent(browserType, type -> {
+            DriverSpec spec = DriverSpec.of(type);
+            String configured = System.getProperty(spec.systemProperty);
+            if (configured != null && new File(configured).isFile()) {
+                logger.info("Using {} from system property {}: {}", spec.driverName, spec.systemProperty, configured);
+                return Optional.of(configured);
+            }
+            Path cachePath = Paths.get(System.getProperty("wdm.cachePath", "drivers"));
+            Optional<String> path = findMatchingInCache(type, cachePath, ConfigManager.isDriverResolverOffline())
+                    .map(driver -> driver.toAbsolutePath().toString());
+            if (path.isPresent()) {
+                System.setProperty(spec.systemProperty, path.get());
+                logger.info("{} resolved from cache: {}", spec.driverName, path.get());
+            } else {
+                logger.info("No cached {} matching the browser - leaving it to Selenium Manager", spec.driverName);
+            }
+            return path;
+        });
+    }
+
+    /**
+     * Cached driver whose major version equals the recorded browser version
+     * The record must be fresh (or offline mode on), otherwise the browser may have updated since
+     *
+     * @param browserType the browser
+     * @param cachePath WebDriverManager cache root (contains resolution.properties)
+     * @param offline accept an expired record
+     * @return matching binary, or empty
+     */
+    static Optional<Path> findMatchingInCache(BrowserType browserType, Path cachePath, boolean offline) {
+        DriverSpec spec = DriverSpec.of(browserType);
+        Path driverRoot = cachePath.resolve(spec.driverName);
+        if (!Files.isDirectory(driverRoot)) {
+            return Optional.empty();
+        }
+        Properties resolution = loadResolutionCache(cachePath);
+        String browserVersion = resolution.getProperty(spec.cacheKey);
+        String driverVersion = browserVersion != null ? resolution.getProperty(spec.cacheKey + browserVersion) : null;
+        if (driverVersion == null || !driverMatchesBrowser(browserVersion, driverVersion)) {
+            logger.debug("Cached {} {} does not match browser {}", spec.driverName, driverVersion, browserVersion);
+            return Optional.empty();
+        }
+        if (!offline && !isFresh(resolution.getProperty(spec.cacheKey + browserVersion + "-ttl"))) {
+            logger.debug("Resolution record of {} {} has expired", spec.driverName, driverVersion);
+            return Optional.empty();
+        }
+        return findBinary(driverRoot, spec, driverVersion);
+    }
+
+    /**
+     * @param browserVersion browser major version recorded by WebDriverManager, e.g. "143"
+     * @param driverVersion driver version, e.g. "143.0.3650.66"
+     * @return true if the driver's major version is the browser's
+     */
+    static boolean driverMatchesBrowser(String browserVersion, String driverVersion) {
+        String browserMajor = browserVersion.trim().split("\\.")[0];
+        String driverMajor = driverVersion.trim().split("\\.")[0];
+        return !browserMajor.isEmpty() && browserMajor.equals(driverMajor);
+    }
+
+    /**
+     * Get the ChromeDriverService shared by all Chrome sessions
+     * Started on first use and stopped by a JVM shutdown hook
+     *
+     * @return running ChromeDriverService
+     * @throws FrameworkException if the service cannot be started
+     */
+    public static ChromeDriverService getSharedChromeDriverService() {
+        ChromeDriverService service = sharedChromeService;
+        if (service != null && service.isRunning()) {
+            return service;
+        }
+
+        synchronized (DriverResolver.class) {
+            if (sharedChromeService != null && sharedChromeService.isRunning()) {
+                return sharedChromeService;
+            }
+
+            String driverPath = resolveDriverPath(BrowserType.CHROME);
+            try {
+                logger.info("Starting shared ChromeDriverService: {}", driverPath);
+                service = new ChromeDriverService.Builder()
+                        .usingDriverExecutable(new File(driverPath))
+                        .usingAnyFreePort()
+                        .build();
+                service.start();
+            } catch (IOException e) {
+                throw new FrameworkException("Failed to start shared ChromeDriverService: " + e.getMessage(), e);
+            }
+
+            if (sharedChromeService == null) {
+                Runtime.getRuntime().addShutdownHook(new Thread(DriverResolver::stopSharedChromeDriverService,
+                        "chromedriver-service-shutdown"));
+            }
+            sharedChromeService = service;
+            logger.info("Shared ChromeDriverService running at: {}", service.getUrl());
+            return service;
+        }
+    }
+
+    /**
+     * Stop the shared ChromeDriverService if it was started
+     */
+    public static synchronized void stopSharedChromeDriverService() {
+        if (sharedChromeService != null && sharedChromeService.isRunning()) {
+            logger.info("Stopping shared ChromeDriverService");
+            sharedChromeService.stop();
+        }
+    }
+
+    private static String resolve(BrowserType browserType) {
+        long startTime = System.currentTimeMillis();
+        DriverSpec spec = DriverSpec.of(browserType);
+
+        String configured = System.getProperty(spec.systemProperty);
+        if (configured != null && new File(configured).isFile()) {
+            logger.info("Using {} from system property {}: {}", spec.driverName, spec.systemProperty, configured);
+            return configured;
+        }
+
+        boolean offline = ConfigManager.isDriverResolverOffline();
+        Path cachePath = Paths.get(System.getProperty("wdm.cachePath", "drivers"));
+
+        Optional<Path> driver = findInCache(spec, cachePath, offline);
+        if (driver.isEmpty()) {
+            Path bundled = Paths.get(BUNDLED_DRIVER_DIR, spec.binaryName());
+            driver = Files.isRegularFile(bundled) ? Optional.of(bundled) : Optional.empty();
+        }
+
+        String driverPath;
+        if (driver.isPresent()) {
+            driverPath = driver.get().toAbsolutePath().toString();
+        } else if (offline) {
+            throw new ConfigurationException("No cached " + spec.driverName + " found under " + cachePath.toAbsolutePath()
+                    + " and driver.resolver.offline=true. Run once online to populate the driver cache");
+        } else {
+            logger.info("No cached {} found - resolving with WebDriverManager", spec.driverName);
+            WebDriverManager manager = spec.webDriverManager().cachePath(cachePath.toString());
+            manager.setup();
+            driverPath = manager.getDownloadedDriverPath();
+        }
+
+        System.setProperty(spec.systemProperty, driverPath);
+        logger.info("{} resolved in {} ms: {}", spec.driverName, System.currentTimeMillis() - startTime, driverPath);
+        return driverPath;
+    }
+
+    /**
+     * Look up a driver binary in the WebDriverManager cache without network access
+     *
+     * Uses the driver version recorded in resolution.properties when its TTL is still valid
+     * (or always, when offline). Offline mode falls back to the newest cached binary.
+     */
+    private static Optional<Path> findInCache(DriverSpec spec, Path cachePath, boolean offline) {
+        Path driverRoot = cachePath.resolve(spec.driverName);
+        if (!Files.isDirectory(driverRoot)) {
+            logger.debug("Driver cache directory not found: {}", driverRoot);
+            return Optional.empty();
+        }
+
+        Properties resolution = loadResolutionCache(cachePath);
+        String browserVersion = resolution.getProperty(spec.cacheKey);
+        String driverVersion = browserVersion != null ? resolution.getProperty(spec.cacheKey + browserVersion) : null;
+        // "chrome-ttl" is the TTL of the browser version; the driver version has its own "chrome<version>-ttl"
+        boolean fresh = browserVersion != null && isFresh(resolution.getProperty(spec.cacheKey + browserVersion + "-ttl"));
+
+        if (driverVersion != null && (fresh || offline)) {
+            Optional<Path> match = findBinary(driverRoot, spec, driverVersion);
+            if (match.isPresent()) {
+                logger.debug("Found cached {} {} (ttl valid: {})", spec.driverName, driverVersion, fresh);
+                return match;
+            }
+        }
+
+        if (offline) {
+            logger.debug("Falling back to newest cached {}", spec.driverName);
+            return findBinary(driverRoot, spec, null);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Path> findBinary(Path driverRoot, DriverSpec spec, String version) {
+        try (Stream<Path> files = Files.walk(driverRoot)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().equals(spec.binaryName()))
+                    .filter(path -> version == null || path.getParent().getFileName().toString().equals(version))
+                    .max(Comparator.comparing((Path path) -> path.getParent().getFileName().toString(),
+                            DriverResolver::compareVersions));
+        } catch (IOException e) {
+            logger.warn("Error scanning driver cache {}: {}", driverRoot, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Properties loadResolutionCache(Path cachePath) {
+        Properties resolution = new Properties();
+        Path file = cachePath.resolve(RESOLUTION_CACHE_FILE);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                resolution.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read resolution cache {}: {}", file, e.getMessage());
+            }
+        }
+        return resolution;
+    }
+
+    /**
+     * @param ttl expiry written by WebDriverManager, e.g. "01:13:46 26/12/2025 IST"
+     * @return true if the expiry lies in the future
+     */
+    static boolean isFresh(String ttl) {
+        if (ttl == null) {
+            return false;
+        }
+        // Drop the zone abbreviation: "HH:mm:ss dd/MM/yyyy" is always the first two tokens
+        String[] parts = ttl.trim().split("\\s+");
+        if (parts.length < 2) {
+            logger.debug("Unparseable resolution cache TTL '{}': treating as expired", ttl);
+            return false;
+        }
+        try {
+            LocalDateTime expiry = LocalDateTime.parse(parts[0] + " " + parts[1], TTL_FORMATTER);
+            ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(expiry);
+            return expiry.atOffset(offset).isAfter(OffsetDateTime.now());
+        } catch (DateTimeParseException e) {
+            logger.debug("Unparseable resolution cache TTL '{}': treating as expired", ttl);
+            return false;
+        }
+    }
+
+    private static int compareVersions(String left, String right) {
+        String[] a = left.split("\\.");
+        String[] b = right.split("\\.");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            int x = i < a.length ? parseOrZero(a[i]) : 0;
+            int y = i < b.length ? parseOrZero(b[i]) : 0;
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+        }
+        return 0;
+    }
+
+    private static int parseOrZero(String part) {
+        try {
+            return Integer.parseInt(part);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Driver naming per browser: cache folder, resolution cache key and system property
+     */
+    private enum DriverSpec {
+        CHROME("chromedriver", "chrome", "webdriver.chrome.driver"),
+        FIREFOX("geckodriver", "firefox", "webdriver.gecko.driver"),
+        EDGE("msedgedriver", "edge", "webdriver.edge.driver");
+
+        private final String driverName;
+        private final String cacheKey;
+        private final String systemProperty;
+
+        DriverSpec(String driverName, String cacheKey, String systemProperty) {
+            this.driverName = driverName;
+            this.cacheKey = cacheKey;
+            this.systemProperty = systemProperty;
+        }
+
+        static DriverSpec of(BrowserType browserType) {
+            switch (browserType) {
+                case FIREFOX:
+                    return FIREFOX;
+                case EDGE:
+                    return EDGE;
+                case CHROME:
+                default:
+                    return CHROME;
+            }
+        }
+
+        String binaryName() {
+            boolean windows = System.getProperty("os.name", "").toLowerCase().contains("win");
+            return windows ? driverName + ".exe" : driverName;
+        }
+
+        WebDriverManager webDriverManager() {
+            switch (this) {
+                case FIREFOX:
+                    return WebDriverManager.firefoxdriver();
+                case EDGE:
+                    return WebDriverManager.edgedriver();
+                case CHROME:
+                default:
+                    return WebDriverManager.chromedriver();
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.epam.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Network Monitor - Tracks in-flight requests of one browser session
+ *
+ * Chrome/Edge (driver implements HasDevTools): subscribes to the DevTools Network domain
+ * (requestWillBeSent / loadingFinished / loadingFailed) and keeps the set of pending
+ * request ids. waitForIdle() blocks on a monitor that the event listeners signal, so the
+ * wait wakes up on network activity instead of polling.
+ *
+ * Other drivers (Firefox, or a RemoteWebDriver without a DevTools connection): falls back
+ * to a Resource Timing check in the page - idle once no new resource entry has been
+ * recorded for the idle period. This can't see requests still in flight, so it is weaker.
+ *
+ * Uses the generic devtools Command/Event types, so it is not tied to one CDP version.
+ *
+ * Usage:
+ * NetworkMonitor monitor = DriverManager.getNetworkMonitor();   // attach before navigating
+ * driver.get(url);
+ * monitor.waitForIdle(Duration.ofMillis(500), Duration.ofSeconds(10));
+ */
+public class NetworkMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkMonitor.class);
+
+    /**
+     * Fallback: idle once performance.getEntriesByType('resource') stops growing for idleMs
+     * arguments[0] = idleMs, arguments[1] = maxMs, last argument = async callback
+     */
+    private static final String RESOURCE_QUIET_SCRIPT =
+            "var idleMs = arguments[0], maxMs = arguments[1], done = arguments[arguments.length - 1];"
+            + "var start = Date.now(), last = start, count = performance.getEntriesByType('resource').length;"
+            + "(function check() {"
+            + "  var now = Date.now(), current = performance.getEntriesByType('resource').length;"
+            + "  if (current !== count) { count = current; last = now; }"
+            + "  if (now - last >= idleMs) { done(true); return; }"
+            + "  if (now - start >= maxMs) { done(false); return; }"
+            + "  setTimeout(check, 50);"
+            + "})();";
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+
+    // Guarded by "this" - listeners notify waiters on every change
+    private final Set<String> inFlight = new HashSet<>();
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkMonitor(WebDriver driver, DevTools devTools) {
+        this.driver = driver;
+        this.devTools = devTools;
+    }
+
+    /**
+     * Start monitoring a session
+     * Requests sent before this call are not tracked, so attach before navigating
+     *
+     * @param driver the session to monitor
+     * @return event-driven monitor on Chrome/Edge, Resource Timing fallback otherwise
+     */
+    public static NetworkMonitor attach(WebDriver driver) {
+        if (driver instanceof HasDevTools && driver instanceof HasCdp) {
+            try {
+                DevTools devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne(sessionTarget(driver));
+                NetworkMonitor monitor = new NetworkMonitor(driver, devTools);
+                monitor.subscribe();
+                logger.debug("Network monitor attached via DevTools");
+                return monitor;
+            } catch (Exception e) {
+                logger.warn("DevTools Network events unavailable - using Resource Timing fallback: {}", e.getMessage());
+            }
+        } else {
+            logger.debug("Driver has no DevTools connection - network idle uses Resource Timing fallback");
+        }
+        return new NetworkMonitor(driver, null);
+    }
+
+    /**
+     * Window the DevTools session attaches to: the one WebDriver is switched to
+     * Without a handle Selenium picks an arbitrary page target - with context isolation
+     * that can be the parent about:blank tab instead of the test's isolated tab.
+     *
+     * @param driver the session to monitor
+     * @return current window handle (on Chromium, the CDP target id)
+     */
+    static String sessionTarget(WebDriver driver) {
+        return driver.getWindowHandle();
+    }
+
+    private void subscribe() {
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+        devTools.addListener(requestEvent("Network.requestWillBeSent"), this::requestStarted);
+        devTools.addListener(requestEvent("Network.loadingFinished"), this::requestEnded);
+        devTools.addListener(requestEvent("Network.loadingFailed"), this::requestEnded);
+    }
+
+    private static Event<String> requestEvent(String method) {
+        return new Event<>(method, NetworkMonitor::readRequestId);
+    }
+
+    private static String readRequestId(JsonInput input) {
+        Map<String, Object> params = input.read(Json.MAP_TYPE);
+        return String.valueOf(params.get("requestId"));
+    }
+
+    private synchronized void requestStarted(String requestId) {
+        inFlight.add(requestId);
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private synchronized void requestEnded(String requestId) {
+        if (inFlight.remove(requestId)) {
+            lastActivityNanos = System.nanoTime();
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return true if idle is signalled by DevTools events (not the page-side fallback)
+     */
+    public boolean isEventDriven() {
+        return devTools != null;
+    }
+
+    /**
+     * @return number of requests sent and not yet finished or failed (0 in fallback mode)
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Wait until no request has been pending for the idle period
+     *
+     * @param idle how long the network must be quiet
+     * @param timeout give up after this long
+     * @return true if the network went idle, false on timeout
+     */
+    public boolean waitForIdle(Duration idle, Duration timeout) {
+        long startNanos = System.nanoTime();
+        boolean isIdle = isEventDriven() ? awaitIdleEvents(idle, timeout) : awaitIdleResourceTiming(idle, timeout);
+        logger.debug("Network idle: {} after {} ms ({} in flight)", isIdle,
+                (System.nanoTime() - startNanos) / 1_000_000L, getInFlightCount());
+        return isIdle;
+    }
+
+    private synchronized boolean awaitIdleEvents(Duration idle, Duration timeout) {
+        long idleNanos = idle.toNanos();
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long quietFor = now - lastActivityNanos;
+                if (inFlight.isEmpty() && quietFor >= idleNanos) {
+                    return true;
+                }
+                long left = deadlineNanos - now;
+                if (left <= 0) {
+                    logger.warn("Network not idle after {} ms - {} request(s) in flight", timeout.toMillis(), inFlight.size());
+                    return false;
+                }
+                // Sleep until the quiet period would end, or until an event wakes us up
+                long sleepNanos = inFlight.isEmpty() ? Math.min(idleNanos - quietFor, left) : left;
+                TimeUnit.NANOSECONDS.timedWait(this, sleepNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitIdleResourceTiming(Duration idle, Duration timeout) {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(RESOURCE_QUIET_SCRIPT,
+                    idle.toMillis(), timeout.toMillis());
+            return Boolean.TRUE.equals(result);
+        } catch (org.openqa.selenium.WebDriverException e) {
+            logger.debug("Resource Timing idle check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Stop listening and disconnect the DevTools session - called before the isolated
+     * context is disposed and the session is quit or returned to the pool, so the next
+     * test does not reuse a DevTools session attached to a disposed target
+     */
+    public void close() {
+        if (devTools == null) {
+            return;
+        }
+        try {
+            devTools.clearListeners();
+            devTools.send(new Command<Void>("Network.disable", Map.of()));
+        } catch (Exception e) {
+            logger.debug("Error while detaching network monitor: {}", e.getMessage());
+        }
+        try {
+            devTools.disconnect();
+        } catch (Exception e) {
+            logger.debug("Error while disconnecting DevTools session: {}", e.getMessage());
+        }
+        synchronized (this) {
+            inFlight.clear();
+        }
+    }
+}
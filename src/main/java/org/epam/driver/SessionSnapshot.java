@@ -0,0 +1,156 @@
+package org.epam.driver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session Snapshot - Cookies and web storage of an authenticated browser session
+ *
+ * Captured right after a UI login and applied to a fresh session to skip the login form.
+ * A snapshot belongs to one origin: cookies are re-added as host cookies of the page
+ * that is open when applyTo() runs, so that page must be on getOrigin().
+ *
+ * applyTo() only adds what the snapshot holds: other cookies and storage keys the test
+ * already set (e.g. a seeded cart in localStorage) are kept, and storage keys the page
+ * already has are not overwritten.
+ *
+ * Immutable. See SessionStore for caching per user with a TTL.
+ *
+ * Usage:
+ * SessionSnapshot snapshot = SessionSnapshot.capture(driver);   // after login
+ * driver.get(snapshot.getOrigin());
+ * snapshot.applyTo(driver);
+ * driver.get(snapshot.getOrigin() + "/inventory.html");
+ */
+public final class SessionSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(SessionSnapshot.class);
+
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "function dump(storage) {"
+            + "  var values = {};"
+            + "  for (var i = 0; i < storage.length; i++) { var key = storage.key(i); values[key] = storage.getItem(key); }"
+            + "  return values;"
+            + "}"
+            + "return {origin: location.origin, local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+
+    // Adds missing keys only - values the test seeded before logging in win over the snapshot
+    private static final String APPLY_STORAGE_SCRIPT =
+            "function fill(storage, values) {"
+            + "  for (var key in values) { if (storage.getItem(key) === null) { storage.setItem(key, values[key]); } }"
+            + "}"
+            + "fill(window.localStorage, arguments[0]); fill(window.sessionStorage, arguments[1]);";
+
+    private final String origin;
+    private final List<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long capturedAtNanos;
+
+    SessionSnapshot(String origin, List<Cookie> cookies, Map<String, String> localStorage,
+                    Map<String, String> sessionStorage) {
+        this.origin = origin;
+        this.cookies = Collections.unmodifiableList(cookies);
+        this.localStorage = Collections.unmodifiableMap(localStorage);
+        this.sessionStorage = Collections.unmodifiableMap(sessionStorage);
+        this.capturedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Capture cookies and local/session storage of the page currently open
+     *
+     * @param driver a session that is logged in
+     * @return snapshot of the current origin
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(CAPTURE_STORAGE_SCRIPT);
+        SessionSnapshot snapshot = new SessionSnapshot(
+                (String) storage.get("origin"),
+                new ArrayList<>(driver.manage().getCookies()),
+                toStringMap(storage.get("local")),
+                toStringMap(storage.get("session")));
+        logger.debug("Session captured for {}: {} cookies, {} localStorage keys", snapshot.origin,
+                snapshot.cookies.size(), snapshot.localStorage.size());
+        return snapshot;
+    }
+
+    private static Map<String, String> toStringMap(Object raw) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (raw instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) raw).entrySet()) {
+                values.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Add this snapshot's cookies and storage keys to the current page
+     * The browser must already be on getOrigin() - cookies can only be set for the open page
+     *
+     * @param driver the session to authenticate
+     */
+    public void applyTo(WebDriver driver) {
+        for (Cookie cookie : cookies) {
+            // Re-added without domain: becomes a host cookie of the open origin (replaces a cookie of the same name)
+            driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path(cookie.getPath())
+                    .expiresOn(cookie.getExpiry())
+                    .isSecure(cookie.isSecure())
+                    .isHttpOnly(cookie.isHttpOnly())
+                    .sameSite(cookie.getSameSite())
+                    .build());
+        }
+        ((JavascriptExecutor) driver).executeScript(APPLY_STORAGE_SCRIPT, localStorage, sessionStorage);
+        logger.debug("Session applied for {}: {} cookies, {} localStorage keys", origin, cookies.size(),
+                localStorage.size());
+    }
+
+    /**
+     * @param ttl maximum age of a snapshot
+     * @return true if older than ttl or any captured cookie has expired
+     */
+    public boolean isExpired(Duration ttl) {
+        if (System.nanoTime() - capturedAtNanos >= ttl.toNanos()) {
+            return true;
+        }
+        Date now = new Date();
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return scheme://host[:port] the snapshot was captured on
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public List<Cookie> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+}
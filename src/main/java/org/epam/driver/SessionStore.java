@@ -0,0 +1,75 @@
+package org.epam.driver;
+
+import org.epam.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session Store - JVM-wide cache of authenticated session snapshots
+ *
+ * One snapshot per username, shared by all test threads. Snapshots outlive the browser
+ * session (they survive quitDriver), so the next test of that user - on any thread - can
+ * skip the UI login. Snapshots are immutable, so sharing them needs no locking; with more
+ * test threads than browsers (test.concurrency &gt; browser.concurrency) each user still logs
+ * in through the UI once per TTL, not once per thread.
+ * A snapshot is dropped when it is older than session.snapshot.ttl seconds, when one of
+ * its cookies expires, or when the application rejects it (invalidate).
+ *
+ * Usage:
+ * SessionSnapshot snapshot = SessionStore.get("standard_user");   // null if none/expired
+ * SessionStore.put("standard_user", SessionSnapshot.capture(driver));
+ * SessionStore.invalidate("standard_user");
+ */
+public final class SessionStore {
+    private static final Logger logger = LoggerFactory.getLogger(SessionStore.class);
+
+    private static final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private SessionStore() {
+    }
+
+    /**
+     * @param username the user the snapshot was captured for
+     * @return a valid snapshot, or null if none is stored or it has expired
+     */
+    public static SessionSnapshot get(String username) {
+        SessionSnapshot snapshot = snapshots.get(username);
+        if (snapshot == null) {
+            return null;
+        }
+        if (snapshot.isExpired(Duration.ofSeconds(ConfigManager.getSessionSnapshotTtl()))) {
+            logger.debug("Session snapshot for '{}' expired", username);
+            // Only drop this snapshot - another thread may already have stored a fresh one
+            snapshots.remove(username, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    public static void put(String username, SessionSnapshot snapshot) {
+        snapshots.put(username, snapshot);
+        logger.debug("Session snapshot stored for '{}'", username);
+    }
+
+    /**
+     * Drop a snapshot the application no longer accepts
+     *
+     * @param username the user whose snapshot was rejected
+     */
+    public static void invalidate(String username) {
+        if (snapshots.remove(username) != null) {
+            logger.info("Session snapshot for '{}' invalidated", username);
+        }
+    }
+
+    /**
+     * Drop all snapshots
+     */
+    public static void clear() {
+        snapshots.clear();
+    }
+}
@@ -0,0 +1,243 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test Context - Everything one test owns: driver, config snapshot, metrics, artifacts
+ *
+ * Created by DriverManager.createDriver() and ended by DriverManager.quitDriver().
+ * The handle itself is immutable (driver, name and config never change); metrics and
+ * artifacts are thread-safe collectors, so the same context can be shared by the test
+ * thread, virtual threads and async retry callbacks.
+ *
+ * Propagation:
+ * - Explicit: keep the handle returned by createDriver() and pass it around
+ * - Implicit: the context is bound to the test thread; wrap() binds it on another thread
+ *   for the duration of one task and restores the previous binding afterwards
+ *   (a scoped binding - Java 17 has no ScopedValue)
+ *
+ * Usage:
+ * TestContext context = DriverManager.createDriver("LoginTest.testValidLogin");
+ * executor.submit(context.wrap(() -> new ProductsPage().getInventory()));
+ * context.incrementMetric("cart.items.added");
+ * DriverManager.quitDriver(context);
+ */
+public final class TestContext {
+
+    // Context bound to the current thread - set by bind() / wrap(), never left behind
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+
+    private final String testName;
+    private final WebDriver driver;
+    private final BrowserContextManager.IsolatedContext isolatedContext;
+    private final Map<String, String> config;
+    private final long startNanos;
+
+    private final Map<String, LongAdder> metrics = new ConcurrentHashMap<>();
+    private final List<String> artifacts = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean ended = new AtomicBoolean();
+
+    // Attached on first use (see getNetworkMonitor) - guarded by "this"
+    private NetworkMonitor networkMonitor;
+
+    TestContext(String testName, WebDriver driver, BrowserContextManager.IsolatedContext isolatedContext,
+                Map<String, String> config) {
+        this.testName = testName;
+        this.driver = driver;
+        this.isolatedContext = isolatedContext;
+        this.config = config;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Context for a driver that was not created by DriverManager (standalone scripts)
+     *
+     * @param testName name used in logs and reports
+     * @param driver the driver to carry
+     * @return new context without config snapshot
+     */
+    public static TestContext forDriver(String testName, WebDriver driver) {
+        return new TestContext(testName, driver, null, Collections.emptyMap());
+    }
+
+    /**
+     * @return the context bound to the current thread
+     * @throws FrameworkException if no test context is bound
+     */
+    public static TestContext current() {
+        TestContext context = CURRENT.get();
+        if (context == null) {
+            throw new FrameworkException("No TestContext bound to thread " + Thread.currentThread().getName()
+                    + ". Call DriverManager.createDriver() first, or run the task through TestContext.wrap()");
+        }
+        return context;
+    }
+
+    /**
+     * @return the context bound to the current thread, or null
+     */
+    public static TestContext currentOrNull() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a context to the current thread until unbind()
+     *
+     * @param context the context of the test running on this thread
+     */
+    public static void bind(TestContext context) {
+        CURRENT.set(context);
+    }
+
+    /**
+     * Remove the current thread's binding
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run a task with this context bound, restoring the previous binding afterwards
+     *
+     * @param task task to run on another thread
+     * @return task that binds this context while it runs
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            TestContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * @param <T> result type
+     * @param task task to run on another thread
+     * @return task that binds this context while it runs
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            TestContext previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(TestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    BrowserContextManager.IsolatedContext getIsolatedContext() {
+        return isolatedContext;
+    }
+
+    /**
+     * @return network monitor of this test's session, attached on first use
+     */
+    public synchronized NetworkMonitor getNetworkMonitor() {
+        if (networkMonitor == null) {
+            networkMonitor = NetworkMonitor.attach(driver);
+        }
+        return networkMonitor;
+    }
+
+    /**
+     * @return the monitor if one was attached, otherwise null (does not attach)
+     */
+    synchronized NetworkMonitor getAttachedNetworkMonitor() {
+        return networkMonitor;
+    }
+
+    /**
+     * Mark the context as ended - DriverManager.quitDriver() cleans up only once
+     *
+     * @return true for the first call only
+     */
+    boolean end() {
+        return ended.compareAndSet(false, true);
+    }
+
+    /**
+     * @param key property key
+     * @return value at the time the test started, or null if not configured
+     */
+    public String getConfig(String key) {
+        return config.get(key);
+    }
+
+    /**
+     * @return immutable configuration snapshot taken when the test started
+     */
+    public Map<String, String> getConfigSnapshot() {
+        return config;
+    }
+
+    public void incrementMetric(String name) {
+        addToMetric(name, 1);
+    }
+
+    public void addToMetric(String name, long value) {
+        metrics.computeIfAbsent(name, key -> new LongAdder()).add(value);
+    }
+
+    /**
+     * @return sorted copy of all metrics recorded so far
+     */
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        metrics.forEach((name, value) -> snapshot.put(name, value.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @param path file produced by the test (screenshot, log, HAR)
+     */
+    public void addArtifact(String path) {
+        artifacts.add(path);
+    }
+
+    public List<String> getArtifacts() {
+        return Collections.unmodifiableList(new ArrayList<>(artifacts));
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    @Override
+    public String toString() {
+        return "TestContext[" + testName + "]";
+    }
+}
@@ -0,0 +1,32 @@
+package org.epam.exceptions;
+
+/**
+ * Exception thrown when a circuit breaker refuses an operation.
+ *
+ * When to throw: The same locator (or the environment as a whole) failed repeatedly,
+ * so further attempts are rejected immediately instead of waiting out timeouts again.
+ *
+ * Example:
+ * throw new CircuitOpenException(
+ *     "Circuit open for 'By.id: login-button' - 5 consecutive failures, retry in 30000 ms"
+ * );
+ */
+public class CircuitOpenException extends FrameworkException {
+
+    /**
+     * Constructor with message
+     * @param message describes which circuit is open and why
+     */
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with message and cause
+     * @param message describes which circuit is open and why
+     * @param cause the last failure recorded by the circuit
+     */
+    public CircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,219 @@
+package org.epam.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration History - Per-test durations of earlier runs, kept in a properties file
+ *
+ * Key: qualified test method name (org.epam.tests.LoginTest.testValidLogin), plus the
+ * invocation's parameters for data-driven tests and Cucumber scenarios
+ * (org.epam.runners.CucumberRunner.runScenario["Valid login", "Login"])
+ * Value: smoothed duration in ms - each run moves the stored value halfway towards the
+ * new measurement, so one slow run (cold browser, slow network) does not dominate.
+ *
+ * The file is read once per run and the loaded snapshot stays fixed for the whole run;
+ * measurements of this run are kept apart. At suite end save() takes a lock file,
+ * re-reads the file, merges this run's measurements into what is there now (another
+ * fork may have saved in between) and replaces it via a temp file, so concurrent forks
+ * never drop each other's results and an aborted run never leaves a truncated history.
+ *
+ * Usage:
+ * DurationHistory history = DurationHistory.load(Paths.get("test-history/durations.properties"));
+ * long expected = history.getDuration("org.epam.tests.LoginTest.testValidLogin", 30000);
+ * history.record("org.epam.tests.LoginTest.testValidLogin", 4200);
+ * history.save();
+ */
+public class DurationHistory {
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+
+    private final Path file;
+    // Snapshot read by load() - never changes during the run
+    private final Map<String, Long> durations;
+    // Measurements of this run, merged into the file by save()
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file, Map<String, Long> durations) {
+        this.file = file;
+        this.durations = durations;
+    }
+
+    /**
+     * @param file history file - a missing or unreadable file starts an empty history
+     * @return loaded history
+     */
+    public static DurationHistory load(Path file) {
+        if (!Files.exists(file)) {
+            logger.info("No test duration history at {} - tests run in declaration order this time", file);
+            return new DurationHistory(file, Collections.emptyMap());
+        }
+        Map<String, Long> durations = read(file);
+        logger.info("Loaded durations of {} tests from {}", durations.size(), file);
+        return new DurationHistory(file, Collections.unmodifiableMap(durations));
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.warn("Could not read test duration history {}: {}", file, e.getMessage());
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid duration for {}: {}", key, properties.getProperty(key));
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * @param testKey test key (see class comment)
+     * @param defaultMillis returned when the test has no history
+     * @return expected duration in ms
+     */
+    public long getDuration(String testKey, long defaultMillis) {
+        return durations.getOrDefault(testKey, defaultMillis);
+    }
+
+    public boolean contains(String testKey) {
+        return durations.containsKey(testKey);
+    }
+
+    /**
+     * Expected duration of a test method over all its invocations
+     * Sums the method's own entry and every per-invocation entry (qualifiedName[...])
+     *
+     * @param qualifiedName qualified test method name
+     * @param defaultMillis returned when the method has no history
+     * @return expected duration in ms
+     */
+    public long getMethodDuration(String qualifiedName, long defaultMillis) {
+        String invocationPrefix = qualifiedName + "[";
+        long total = 0;
+        boolean found = false;
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            if (entry.getKey().equals(qualifiedName) || entry.getKey().startsWith(invocationPrefix)) {
+                total += entry.getValue();
+                found = true;
+            }
+        }
+        return found ? total : defaultMillis;
+    }
+
+    /**
+     * @param qualifiedName qualified test method name
+     * @return true if the method or any of its invocations has history
+     */
+    public boolean containsMethod(String qualifiedName) {
+        String invocationPrefix = qualifiedName + "[";
+        for (String key : durations.keySet()) {
+            if (key.equals(qualifiedName) || key.startsWith(invocationPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record a measurement of this run (written by save())
+     *
+     * @param testKey test key (see class comment)
+     * @param millis measured duration
+     */
+    public void record(String testKey, long millis) {
+        measured.merge(testKey, millis, (previous, latest) -> (previous + latest) / 2);
+    }
+
+    /**
+     * Merge this run's measurements into the history file
+     * Holds an exclusive lock on "&lt;file&gt;.lock" while reading, merging and replacing the file
+     */
+    public void save() {
+        if (measured.isEmpty()) {
+            logger.debug("No test durations measured - {} left unchanged", file);
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Map<String, Long> merged = read(file);
+                measured.forEach((key, millis) -> merged.merge(key, millis, (previous, latest) -> (previous + latest) / 2));
+
+                // Sorted lines keep the file diff-friendly
+                List<String> lines = new ArrayList<>();
+                lines.add("# Test durations in ms - written by DurationScheduler");
+                merged.forEach((key, millis) -> lines.add(escapeKey(key) + "=" + millis));
+
+                Path temp = Files.createTempFile(parent, "durations", ".tmp");
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                logger.info("Saved durations of {} tests to {} ({} measured this run)", merged.size(), file,
+                        measured.size());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write test duration history {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Escape a key for the properties format - parameterised keys may contain spaces, '=' or ':'
+     */
+    private static String escapeKey(String key) {
+        StringBuilder escaped = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case '\\':
+                case ' ':
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    escaped.append('\\').append(c);
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
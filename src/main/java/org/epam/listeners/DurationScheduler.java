@@ -0,0 +1,337 @@
+package org.epam.listeners;
+
+import org.epam.config.ConfigManager;
+import org.epam.exceptions.ConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAnnotationTransformer;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Duration Scheduler - Orders tests by their historical duration to shorten wall time
+ *
+ * Records how long every test invocation took into a DurationHistory file (data-driven
+ * tests and Cucumber scenarios per parameter set, see DurationHistory). On the next run
+ * (schedule.duration.enabled=true) the method interceptor:
+ * 1. Sorts tests longest-first (unknown tests: schedule.default.duration.ms); a data-driven
+ *    method counts with the sum of its invocations
+ * 2. Bin-packs them onto the worker threads (LPT: each test goes to the least loaded thread)
+ *    and logs the estimated wall time before the first test starts
+ *
+ * With schedule.shard.count &gt; 1 (with or without duration ordering) only shard
+ * schedule.shard.index is kept - run one shard per fork or CI job. Shards are bin-packed
+ * by duration (LPT over the history as loaded, ties broken by test name), so each shard
+ * gets about the same wall time. The split is a function of the test names and the
+ * loaded durations only: jobs that load the same file compute the same disjoint, complete
+ * split. When forks share one history file (a fork may save before another loads), set
+ * schedule.shard.baseline.file to a copy taken before the run - shards are then planned
+ * from that fixed file. An index outside 0..count-1 fails the run before any test starts.
+ *
+ * A data-provider method is one test for the interceptor. Test classes implementing
+ * ShardedDataProvider (the Cucumber runner) shard their own invocations instead - their
+ * data provider keeps this shard's rows via shardInvocations() - and the interceptor
+ * keeps their methods in every shard, so scenarios spread over all shards.
+ *
+ * TestNG's worker threads take the next test from one shared queue, which is the same
+ * greedy rule as LPT, so the longest-first order realises the estimated plan. When
+ * scheduling is enabled the test priorities are cleared (the tests are independent and
+ * priority would override the order); otherwise order and priorities are left as they are.
+ *
+ * Registered in pom.xml (surefire "listener" property) next to the Allure listener.
+ *
+ * Usage:
+ * mvn test -Dschedule.duration.enabled=true
+ * mvn test -Dschedule.shard.count=2 -Dschedule.shard.index=0
+ */
+public class DurationScheduler implements IMethodInterceptor, ITestListener, ISuiteListener, IAnnotationTransformer {
+    private static final Logger logger = LoggerFactory.getLogger(DurationScheduler.class);
+
+    // One history per JVM - TestNG may create several listener instances
+    private static volatile DurationHistory history;
+
+    // Fixed input for shard planning when schedule.shard.baseline.file is set
+    private static volatile DurationHistory shardBaseline;
+
+    /**
+     * Marker for test classes whose data provider keeps only this shard's invocations
+     * (see shardInvocations) - their methods run in every shard
+     */
+    public interface ShardedDataProvider {
+    }
+
+    private static DurationHistory getHistory() {
+        DurationHistory loaded = history;
+        if (loaded == null) {
+            synchronized (DurationScheduler.class) {
+                loaded = history;
+                if (loaded == null) {
+                    loaded = DurationHistory.load(Paths.get(ConfigManager.getDurationHistoryFile()));
+                    history = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static DurationHistory getShardBaseline() {
+        String baselineFile = ConfigManager.getScheduleShardBaselineFile();
+        if (baselineFile.isEmpty()) {
+            return getHistory();
+        }
+        DurationHistory loaded = shardBaseline;
+        if (loaded == null) {
+            synchronized (DurationScheduler.class) {
+                loaded = shardBaseline;
+                if (loaded == null) {
+                    loaded = DurationHistory.load(Paths.get(baselineFile));
+                    shardBaseline = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (ConfigManager.isDurationSchedulingEnabled()) {
+            annotation.setPriority(0);
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = ConfigManager.getScheduleShardCount();
+        int shardIndex = ConfigManager.getScheduleShardIndex();
+        validateShard(shardCount, shardIndex);
+
+        boolean ordering = ConfigManager.isDurationSchedulingEnabled();
+        if ((!ordering && shardCount == 1) || methods.isEmpty()) {
+            return methods;
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        if (shardCount > 1) {
+            DurationHistory baseline = getShardBaseline();
+            long defaultMillis = ConfigManager.getDefaultTestDurationMillis();
+            Set<String> shard = shardOf(ordered.stream()
+                            .filter(method -> !shardsOwnInvocations(method.getMethod()))
+                            .map(method -> methodKeyOf(method.getMethod()))
+                            .collect(Collectors.toList()),
+                    key -> baseline.getMethodDuration(key, defaultMillis), shardCount, shardIndex);
+            ordered.removeIf(method -> !shardsOwnInvocations(method.getMethod())
+                    && !shard.contains(methodKeyOf(method.getMethod())));
+            logger.info("Shard {}/{}: {} of {} tests", shardIndex + 1, shardCount, ordered.size(), methods.size());
+        }
+        if (!ordering) {
+            return ordered;
+        }
+
+        DurationHistory durations = getHistory();
+        long defaultMillis = ConfigManager.getDefaultTestDurationMillis();
+        ordered.sort(Comparator.comparingLong(
+                (IMethodInstance method) -> durations.getMethodDuration(methodKeyOf(method.getMethod()), defaultMillis))
+                .reversed());
+
+        logPlan(context.getName(), ordered, durations, defaultMillis, ConfigManager.getTestConcurrency());
+        return ordered;
+    }
+
+    /**
+     * @param shardCount schedule.shard.count
+     * @param shardIndex schedule.shard.index
+     * @throws ConfigurationException if the count is below 1 or the index is outside 0..count-1
+     */
+    static void validateShard(int shardCount, int shardIndex) {
+        if (shardCount < 1) {
+            throw new ConfigurationException("schedule.shard.count must be at least 1, got: " + shardCount);
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new ConfigurationException("schedule.shard.index must be between 0 and " + (shardCount - 1)
+                    + " for schedule.shard.count=" + shardCount + ", got: " + shardIndex);
+        }
+    }
+
+    /**
+     * Tests of one shard: LPT bin-packing of the distinct test names
+     * Longest first (ties by name), each onto the least loaded shard (ties: lowest index).
+     * Depends on the names and durations only, so every job with the same input computes
+     * the same disjoint, complete split.
+     *
+     * @param testKeys names of all tests in the run (duplicates allowed)
+     * @param durationOf expected duration of a test in ms
+     * @param shardCount number of shards
+     * @param shardIndex zero-based shard to return
+     * @return names in the shard
+     */
+    static Set<String> shardOf(Collection<String> testKeys, ToLongFunction<String> durationOf,
+                               int shardCount, int shardIndex) {
+        List<String> sorted = new ArrayList<>(new TreeSet<>(testKeys));
+        sorted.sort(Comparator.comparingLong(durationOf).reversed().thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[shardCount];
+        Set<String> shard = new HashSet<>();
+        for (String key : sorted) {
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            loads[target] += durationOf.applyAsLong(key);
+            if (target == shardIndex) {
+                shard.add(key);
+            }
+        }
+        return shard;
+    }
+
+    /**
+     * Keep the data-provider rows of this shard (for ShardedDataProvider classes)
+     * Rows are keyed like the history (see invocationKey) and bin-packed like shardOf;
+     * with schedule.shard.count=1 all rows are returned.
+     *
+     * Usage (in the data provider):
+     * return DurationScheduler.shardInvocations(getClass().getName() + ".runScenario", super.scenarios());
+     *
+     * @param qualifiedName qualified name of the test method the rows feed
+     * @param invocations all rows of the data provider
+     * @return rows in this JVM's shard
+     */
+    public static Object[][] shardInvocations(String qualifiedName, Object[][] invocations) {
+        int shardCount = ConfigManager.getScheduleShardCount();
+        int shardIndex = ConfigManager.getScheduleShardIndex();
+        validateShard(shardCount, shardIndex);
+        if (shardCount == 1) {
+            return invocations;
+        }
+
+        DurationHistory baseline = getShardBaseline();
+        long defaultMillis = ConfigManager.getDefaultTestDurationMillis();
+        List<String> keys = new ArrayList<>();
+        for (Object[] invocation : invocations) {
+            keys.add(invocationKey(qualifiedName, invocation));
+        }
+        Set<String> shard = shardOf(keys, key -> baseline.getDuration(key, defaultMillis), shardCount, shardIndex);
+        List<Object[]> kept = new ArrayList<>();
+        for (int i = 0; i < invocations.length; i++) {
+            if (shard.contains(keys.get(i))) {
+                kept.add(invocations[i]);
+            }
+        }
+        logger.info("Shard {}/{}: {} of {} invocations of {}", shardIndex + 1, shardCount, kept.size(),
+                invocations.length, qualifiedName);
+        return kept.toArray(new Object[0][]);
+    }
+
+    private static boolean shardsOwnInvocations(ITestNGMethod method) {
+        return ShardedDataProvider.class.isAssignableFrom(method.getRealClass());
+    }
+
+    /**
+     * Log the estimated wall time of the ordered tests on the worker threads
+     */
+    private static void logPlan(String testName, List<IMethodInstance> ordered, DurationHistory durations,
+                                long defaultMillis, int threads) {
+        PriorityQueue<Long> threadLoads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            threadLoads.add(0L);
+        }
+        long totalMillis = 0;
+        int unknown = 0;
+        for (IMethodInstance method : ordered) {
+            String key = methodKeyOf(method.getMethod());
+            if (!durations.containsMethod(key)) {
+                unknown++;
+            }
+            long millis = durations.getMethodDuration(key, defaultMillis);
+            totalMillis += millis;
+            threadLoads.add(threadLoads.poll() + millis);
+        }
+        long wallMillis = 0;
+        for (long load : threadLoads) {
+            wallMillis = Math.max(wallMillis, load);
+        }
+
+        logger.info("'{}': {} tests longest-first on {} thread(s) - estimated wall time {} s (serial {} s, {} without history)",
+                testName, ordered.size(), threads, wallMillis / 1000, totalMillis / 1000, unknown);
+        if (logger.isDebugEnabled()) {
+            for (IMethodInstance method : ordered) {
+                String key = methodKeyOf(method.getMethod());
+                logger.debug("  {} ms  {}", durations.getMethodDuration(key, defaultMillis), key);
+            }
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        long millis = result.getEndMillis() - result.getStartMillis();
+        if (millis > 0) {
+            getHistory().record(keyOf(result), millis);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        getHistory();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        getHistory().save();
+    }
+
+    private static String methodKeyOf(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    /**
+     * Key of one invocation: the method name, plus the parameters when there are any
+     * Cucumber runs every scenario through runScenario(pickle, feature); the wrappers print
+     * the scenario and feature names, so each scenario gets its own entry.
+     */
+    static String keyOf(ITestResult result) {
+        return invocationKey(result.getMethod().getQualifiedName(), result.getParameters());
+    }
+
+    static String invocationKey(String qualifiedName, Object[] parameters) {
+        if (parameters == null || parameters.length == 0) {
+            return qualifiedName;
+        }
+        StringJoiner key = new StringJoiner(", ", qualifiedName + "[", "]");
+        for (Object parameter : parameters) {
+            key.add(String.valueOf(parameter));
+        }
+        return key.toString();
+    }
+}
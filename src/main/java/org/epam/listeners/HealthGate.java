@@ -0,0 +1,121 @@
+package org.epam.listeners;
+
+import org.epam.config.ConfigManager;
+import org.epam.driver.DriverManager;
+import org.epam.driver.TestContext;
+import org.epam.utils.EnvironmentHealth;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Health Gate - Skips the suite in seconds when the test environment is down
+ *
+ * Suite start (health.check.enabled=true):
+ * 1. HTTP check of health.check.url (default base.url)
+ * 2. Sample page render: opens base.url in a browser and waits for
+ *    health.check.render.selector (skipped when no selector is configured)
+ * 3. Starts a background HTTP probe every health.check.interval.seconds
+ *
+ * Any pre-flight failure, or health.check.failure.threshold consecutive probe failures,
+ * trips EnvironmentHealth. While it is tripped every test (and its @BeforeMethod, so no
+ * browser is launched) is skipped with the failure as reason; cleanup methods still run.
+ * A probe trip ends with the next successful probe; a pre-flight trip lasts for the run.
+ * Only page or network failures trip it - a browser that cannot be started is a local
+ * setup problem and fails the suite start instead of skipping every test.
+ *
+ * Registered in pom.xml (surefire "listener" property) next to the Allure listener.
+ */
+public class HealthGate implements ISuiteListener, IInvokedMethodListener {
+    private static final Logger logger = LoggerFactory.getLogger(HealthGate.class);
+
+    // Pre-flight runs once per JVM, even with several suites
+    private static final AtomicBoolean preflightDone = new AtomicBoolean();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigManager.isHealthCheckEnabled() || !preflightDone.compareAndSet(false, true)) {
+            return;
+        }
+
+        String url = ConfigManager.getHealthCheckUrl();
+        int timeoutMillis = ConfigManager.getHealthCheckTimeoutMillis();
+        long startNanos = System.nanoTime();
+
+        String failure = EnvironmentHealth.checkHttp(url, timeoutMillis);
+        if (failure == null) {
+            failure = checkRender(ConfigManager.getHealthCheckRenderSelector());
+        }
+        if (failure != null) {
+            EnvironmentHealth.trip("Pre-flight check failed: " + failure);
+            return;
+        }
+        logger.info("✓ Environment healthy ({} ms): {}", (System.nanoTime() - startNanos) / 1_000_000L, url);
+
+        int interval = ConfigManager.getHealthCheckIntervalSeconds();
+        if (interval > 0) {
+            EnvironmentHealth.startMonitoring(url, interval, timeoutMillis, ConfigManager.getHealthCheckFailureThreshold());
+        }
+    }
+
+    /**
+     * Open base.url in a browser and wait for the selector
+     *
+     * @param selector CSS selector of an element every healthy page load renders
+     * @return null if rendered (or no selector configured), otherwise the failure
+     * @throws RuntimeException from DriverManager.createDriver() - not an environment failure
+     */
+    private static String checkRender(String selector) {
+        if (selector.isEmpty()) {
+            return null;
+        }
+        TestContext context = DriverManager.createDriver("health-check");
+        try {
+            context.getDriver().get(ConfigManager.getBaseUrl());
+            new WebDriverWait(context.getDriver(), Duration.ofSeconds(ConfigManager.getHealthCheckRenderTimeout()))
+                    .until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(selector)));
+            return null;
+        } catch (WebDriverException e) {
+            // Navigation error (DNS, connection refused, ...) or the selector did not show up in time
+            return "sample page did not render '" + selector + "': " + e.getClass().getSimpleName() + " " + e.getMessage();
+        } finally {
+            try {
+                DriverManager.quitDriver(context);
+            } catch (Exception e) {
+                logger.warn("Error while closing health check browser: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (EnvironmentHealth.isHealthy()) {
+            return;
+        }
+        boolean beforeMethod = method.isConfigurationMethod() && method.getTestMethod().isBeforeMethodConfiguration();
+        if (method.isTestMethod() || beforeMethod) {
+            throw new SkipException("Environment unhealthy: " + EnvironmentHealth.getUnhealthyReason());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        EnvironmentHealth.stopMonitoring();
+        if (!EnvironmentHealth.isHealthy()) {
+            logger.error("Suite '{}' ran against an unhealthy environment: {}", suite.getName(),
+                    EnvironmentHealth.getUnhealthyReason());
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package org.epam.pages;
 
 import org.epam.driver.DriverManager;
+import org.epam.driver.NetworkMonitor;
+import org.epam.exceptions.CircuitOpenException;
 import org.epam.exceptions.ElementNotFoundException;
 import org.epam.exceptions.TimeoutException;
 import org.epam.exceptions.NavigationException;
+import org.epam.utils.Deadline;
+import org.epam.utils.OperationName;
+import org.epam.utils.RetryPolicy;
 import org.epam.utils.RetryUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.epam.config.ConfigManager;
@@ -15,16 +22,39 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * BasePage - Base class for all Page Objects
  *
  * Features:
  * - Common element operations (click, type, wait, etc.)
- * - Retry mechanism with 3 attempts
+ * - Retry mechanism with 3 attempts (RetryPolicy.UI_ACTION by default, selectable per action)
+ * - Circuit breaker per locator and per environment - repeated failures fail fast
+ * - One time budget per action (action.budget) shared by all nested waits and retries
  * - Custom exception throwing
  * - Full logging of all operations
  * - Thread-safe WebDriver access
+ * - Element cache per page: a located element is reused by later actions on the same
+ *   locator until the page navigates or the reference goes stale
+ * - Network-idle wait (waitForNetworkIdle) - DevTools Network events on Chrome/Edge
+ * - Form fill in one script execution (fillForm) - React-compatible input events
+ * - Batched state queries (queryElements) - many elements, one executeScript round-trip
+ * - One explicit wait engine (newWait / waitUntil): configurable polling (wait.polling.ms)
+ *   and per-condition timeouts (wait.visible.timeout, wait.clickable.timeout, ...).
+ *   With wait.explicit.only=true the implicit wait is 0 and this engine is the only waiting.
  *
  * Design Patterns Used:
  * - Page Object Model: Encapsulates page elements and actions
@@ -36,7 +66,154 @@ public class BasePage {
     protected WebDriverWait wait;
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
 
-    private static final int MAX_RETRIES = 3;
+
+    private static final long PROBE_POLL_INTERVAL_MS = 100;
+
+    /**
+     * JS function find(q): first element matching a W3C locator {using, value} (see toScriptQuery)
+     */
+    private static final String FIND_ELEMENT_FUNCTION =
+            "function find(q) {"
+            + "  if (q.using === 'css selector' || q.using === 'tag name') { return document.querySelector(q.value); }"
+            + "  if (q.using === 'xpath') {"
+            + "    return document.evaluate(q.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  }"
+            + "  if (q.using === 'link text' || q.using === 'partial link text') {"
+            + "    var links = document.querySelectorAll('a');"
+            + "    for (var i = 0; i < links.length; i++) {"
+            + "      var t = links[i].innerText.trim();"
+            + "      if (q.using === 'link text' ? t === q.value : t.indexOf(q.value) >= 0) { return links[i]; }"
+            + "    }"
+            + "    return null;"
+            + "  }"
+            + "  throw new Error('unsupported');"
+            + "}";
+
+    /**
+     * Resolves a list of {using, value} queries and reports the state of the first match of each
+     * arguments[0] = queries (null entries are skipped), arguments[1] = attribute names
+     */
+    private static final String BATCH_QUERY_SCRIPT =
+            "var queries = arguments[0], attributeNames = arguments[1], results = [];"
+            + FIND_ELEMENT_FUNCTION
+            + "function isDisplayed(el) {"
+            + "  var style = window.getComputedStyle(el);"
+            + "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}"
+            + "for (var n = 0; n < queries.length; n++) {"
+            + "  var q = queries[n];"
+            + "  if (!q) { results.push(null); continue; }"
+            + "  var el;"
+            + "  try { el = find(q); } catch (e) { results.push({unsupported: true}); continue; }"
+            + "  if (!el) { results.push({present: false}); continue; }"
+            + "  var shown = isDisplayed(el), attributes = {};"
+            + "  for (var a = 0; a < attributeNames.length; a++) {"
+            + "    attributes[attributeNames[a]] = el.getAttribute(attributeNames[a]);"
+            + "  }"
+            + "  results.push({present: true, displayed: shown,"
+            + "    text: shown ? (el.innerText || el.textContent || '').trim() : '', attributes: attributes});"
+            + "}"
+            + "return results;";
+
+    /**
+     * JS function domQuietState(): the document's mutation tracker, created on first call
+     * (kept on window, so a navigation starts a new one). Registered on Chromium to run at
+     * document start (see installDomObserver) - created there, it has seen the whole render.
+     */
+    private static final String DOM_OBSERVER_FUNCTION =
+            "function domQuietState() {"
+            + "  var state = window.__automationDomQuiet;"
+            + "  if (!state) {"
+            + "    state = window.__automationDomQuiet = {last: Date.now()};"
+            + "    new MutationObserver(function () { state.last = Date.now(); })"
+            + "      .observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "  }"
+            + "  return state;"
+            + "}";
+
+    /**
+     * Calls back true once no mutation has been seen for quietMs, or false after maxMs
+     * Without the document-start observer the tracker starts now, so the first wait on a
+     * document lasts at least quietMs
+     * arguments[0] = quietMs, arguments[1] = maxMs, last argument = async callback
+     */
+    private static final String DOM_QUIET_SCRIPT =
+            "var quietMs = arguments[0], maxMs = arguments[1], done = arguments[arguments.length - 1];"
+            + DOM_OBSERVER_FUNCTION
+            + "var state = domQuietState();"
+            + "var start = Date.now();"
+            + "(function check() {"
+            + "  var now = Date.now(), quietFor = now - state.last, waited = now - start;"
+            + "  if (quietFor >= quietMs) { done(true); return; }"
+            + "  if (waited >= maxMs) { done(false); return; }"
+            + "  setTimeout(check, Math.max(10, Math.min(quietMs - quietFor, maxMs - waited)));"
+            + "})();";
+
+    /**
+     * Sets every field through the native value setter and fires input + change, which is what
+     * React listens to (assigning el.value alone is overwritten by React's controlled state),
+     * Only checks that the submit element exists - it is clicked by SUBMIT_SCRIPT, outside the retry
+     * arguments[0] = [{using, value, text}], arguments[1] = submit query or null
+     * Returns the indexes of fields that were not found (-1 for the submit element)
+     */
+    private static final String FORM_FILL_SCRIPT =
+            "var fields = arguments[0], submit = arguments[1], missing = [];"
+            + FIND_ELEMENT_FUNCTION
+            + "var elements = [];"
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  elements.push(find(fields[i]));"
+            + "  if (!elements[i]) { missing.push(i); }"
+            + "}"
+            + "var submitElement = submit ? find(submit) : null;"
+            + "if (submit && !submitElement) { missing.push(-1); }"
+            + "if (missing.length) { return missing; }"
+            + "for (var n = 0; n < elements.length; n++) {"
+            + "  var el = elements[n];"
+            + "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "      : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;"
+            + "  var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;"
+            + "  el.focus();"
+            + "  setter.call(el, fields[n].text);"
+            + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  el.blur();"
+            + "}"
+            + "return missing;";
+
+    /**
+     * Click the submit element of a filled form
+     * arguments[0] = submit query; returns false if the element is gone
+     */
+    private static final String SUBMIT_SCRIPT =
+            FIND_ELEMENT_FUNCTION
+            + "var submitElement = find(arguments[0]);"
+            + "if (!submitElement) { return false; }"
+            + "submitElement.click();"
+            + "return true;";
+
+    private final Duration actionBudget;
+    private final Duration implicitWait;
+    private final Duration pollingInterval;
+    private final Duration visibleTimeout;
+    private final Duration clickableTimeout;
+    private final Duration urlTimeout;
+    private final Duration pageLoadTimeout;
+    private final Duration domStableTimeout;
+    private final Duration domQuietPeriod;
+    private final Duration networkIdlePeriod;
+    private final Duration networkIdleTimeout;
+
+    // Located elements of this page, re-resolved after navigation or when they go stale
+    private final boolean elementCacheEnabled;
+    private final Map<By, WebElement> elementCache = new HashMap<>();
+
+    // Circuit breaker key per locator, built once - By.toString() allocates a new string on every call
+    private final Map<By, String> circuitKeys = new IdentityHashMap<>();
+
+    // Windows (CDP targets) per session that run the DOM observer at document start - guarded by itself
+    private static final Map<WebDriver, Set<String>> domObserverTargets = new WeakHashMap<>();
 
     /**
      * Constructor - Initializes driver and wait
@@ -45,8 +222,96 @@ public class BasePage {
     public BasePage() {
         logger.debug("Initializing BasePage");
         this.driver = DriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.getTimeout()));
-        logger.debug("BasePage initialized with timeout: {} seconds", ConfigManager.getTimeout());
+        int timeoutSeconds = ConfigManager.getTimeout();
+        this.actionBudget = Duration.ofSeconds(ConfigManager.getActionBudget());
+        this.implicitWait = DriverManager.getImplicitWait();
+        this.pollingInterval = Duration.ofMillis(ConfigManager.getWaitPollingMillis());
+        this.visibleTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("visible"));
+        this.clickableTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("clickable"));
+        this.urlTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("url"));
+        this.pageLoadTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("page.load"));
+        this.domStableTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("dom.stable"));
+        this.domQuietPeriod = ConfigManager.isDomStableWaitEnabled()
+                ? Duration.ofMillis(ConfigManager.getDomQuietMillis()) : Duration.ZERO;
+        this.networkIdlePeriod = ConfigManager.isNetworkIdleWaitEnabled()
+                ? Duration.ofMillis(ConfigManager.getNetworkIdleMillis()) : Duration.ZERO;
+        this.networkIdleTimeout = Duration.ofSeconds(ConfigManager.getWaitTimeout("network.idle"));
+        this.elementCacheEnabled = ConfigManager.isElementCacheEnabled();
+        this.wait = newWait(Duration.ofSeconds(timeoutSeconds));
+        if (!domQuietPeriod.isZero()) {
+            installDomObserver(driver);
+        }
+        logger.debug("BasePage initialized with timeout: {} seconds, polling: {} ms, implicit wait: {} ms",
+                timeoutSeconds, pollingInterval.toMillis(), implicitWait.toMillis());
+    }
+
+    /**
+     * Retry policy used by actions that don't specify one
+     * Page objects may override to tune retries for their page
+     *
+     * @return RetryPolicy.UI_ACTION (ms backoff with jitter, shared UI circuit breaker)
+     */
+    protected RetryPolicy getRetryPolicy() {
+        return RetryPolicy.UI_ACTION;
+    }
+
+    /**
+     * Circuit breaker key of a locator - the string is built on first use only
+     * Page fields hold their locators for the page's lifetime, so the identity lookup hits
+     *
+     * @param locator element locator
+     * @return locator string used as circuit key
+     */
+    protected String circuitKey(By locator) {
+        synchronized (circuitKeys) {
+            return circuitKeys.computeIfAbsent(locator, By::toString);
+        }
+    }
+
+    /**
+     * Start the time budget for one UI action
+     * All nested waits and retries of the action share this deadline
+     *
+     * @return new Deadline of action.budget seconds
+     */
+    protected Deadline newActionDeadline() {
+        return Deadline.after(actionBudget);
+    }
+
+    /**
+     * Create an explicit wait polling at wait.polling.ms
+     * Every wait in the page objects is built here
+     *
+     * @param timeout how long to wait
+     * @return configured WebDriverWait
+     */
+    protected WebDriverWait newWait(Duration timeout) {
+        return new WebDriverWait(driver, timeout, pollingInterval);
+    }
+
+    /**
+     * Create an explicit wait limited by the time left on the deadline
+     *
+     * @param deadline the action deadline
+     * @param timeout the condition's own timeout
+     * @return WebDriverWait of min(timeout, remaining budget)
+     */
+    protected WebDriverWait waitWithin(Deadline deadline, Duration timeout) {
+        return newWait(deadline.cap(timeout));
+    }
+
+    /**
+     * Wait for a condition within the condition timeout and the action deadline
+     *
+     * @param <T> condition result type
+     * @param condition e.g. ExpectedConditions.visibilityOfElementLocated(locator)
+     * @param timeout the condition's own timeout
+     * @param deadline the action deadline
+     * @return the condition's result
+     * @throws org.openqa.selenium.TimeoutException if the condition is not met in time
+     */
+    protected <T> T waitUntil(Function<? super WebDriver, T> condition, Duration timeout, Deadline deadline) {
+        return waitWithin(deadline, timeout).until(condition);
     }
 
     /**
@@ -54,29 +319,61 @@ public class BasePage {
      *
      * Retry Logic:
      * - Attempt 1: Find element → Not found
-     * - Attempt 2: Wait 1 sec, find → Not found
-     * - Attempt 3: Wait 2 sec, find → Found OR throw exception
+     * - Attempt 2: Back off (per RetryPolicy), find → Not found
+     * - Attempt 3: Back off, find → Found OR throw exception
      *
      * @param locator element locator
      * @return visible WebElement
      * @throws ElementNotFoundException if not found after 3 attempts
      */
     protected WebElement waitForElementToBeVisible(By locator) {
+        return waitForElementToBeVisible(locator, newActionDeadline());
+    }
+
+    /**
+     * Wait for element to be visible within an existing action deadline
+     *
+     * @param locator element locator
+     * @param deadline time budget shared with the calling action
+     * @return visible WebElement
+     * @throws ElementNotFoundException if not found
+     * @throws TimeoutException if the budget runs out
+     */
+    protected WebElement waitForElementToBeVisible(By locator, Deadline deadline) {
+        return waitForElementToBeVisible(locator, deadline, getRetryPolicy());
+    }
+
+    /**
+     * Wait for element to be visible within an existing action deadline, using a specific retry policy
+     *
+     * @param locator element locator
+     * @param deadline time budget shared with the calling action
+     * @param policy retry policy of the calling action
+     * @return visible WebElement
+     */
+    protected WebElement waitForElementToBeVisible(By locator, Deadline deadline, RetryPolicy policy) {
         logger.debug("Waiting for element to be visible: {}", locator);
 
         try {
             WebElement element = RetryUtils.retryOperation(
                 () -> {
                     try {
-                        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                        WebElement cached = getCachedElement(locator, false);
+                        if (cached != null) {
+                            return cached;
+                        }
+                        return cacheElement(locator,
+                                waitUntil(ExpectedConditions.visibilityOfElementLocated(locator), visibleTimeout, deadline));
                     } catch (org.openqa.selenium.TimeoutException e) {
                         throw new TimeoutException("Element not visible within timeout: " + locator, e);
                     } catch (org.openqa.selenium.NoSuchElementException e) {
                         throw new ElementNotFoundException("Element not found in DOM: " + locator, e);
                     }
                 },
-                "Element to be visible: " + locator,
-                3  // MAX_RETRIES
+                OperationName.of("Element to be visible: ", locator),
+                policy,
+                deadline,
+                null  // circuit breaker is applied by the calling action
             );
             logger.debug("Element is now visible: {}", locator);
             return element;
@@ -94,8 +391,7 @@ public class BasePage {
 
     protected void waitForUrlContains(String urlFragment) {
         logger.info("Waiting for URL to contain: {}", urlFragment);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.urlContains(urlFragment));
+        newWait(urlTimeout).until(ExpectedConditions.urlContains(urlFragment));
         logger.info("URL contains: {}", urlFragment);
     }
 
@@ -107,21 +403,53 @@ public class BasePage {
      * @throws ElementNotFoundException if not clickable after 3 attempts
      */
     protected WebElement waitForElementToBeClickable(By locator) {
+        return waitForElementToBeClickable(locator, newActionDeadline());
+    }
+
+    /**
+     * Wait for element to be clickable within an existing action deadline
+     *
+     * @param locator element locator
+     * @param deadline time budget shared with the calling action
+     * @return clickable WebElement
+     * @throws ElementNotFoundException if not clickable
+     * @throws TimeoutException if the budget runs out
+     */
+    protected WebElement waitForElementToBeClickable(By locator, Deadline deadline) {
+        return waitForElementToBeClickable(locator, deadline, getRetryPolicy());
+    }
+
+    /**
+     * Wait for element to be clickable within an existing action deadline, using a specific retry policy
+     *
+     * @param locator element locator
+     * @param deadline time budget shared with the calling action
+     * @param policy retry policy of the calling action
+     * @return clickable WebElement
+     */
+    protected WebElement waitForElementToBeClickable(By locator, Deadline deadline, RetryPolicy policy) {
         logger.debug("Waiting for element to be clickable: {}", locator);
 
         try {
             WebElement element = RetryUtils.retryOperation(
                 () -> {
                     try {
-                        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+                        WebElement cached = getCachedElement(locator, true);
+                        if (cached != null) {
+                            return cached;
+                        }
+                        return cacheElement(locator,
+                                waitUntil(ExpectedConditions.elementToBeClickable(locator), clickableTimeout, deadline));
                     } catch (org.openqa.selenium.TimeoutException e) {
                         throw new TimeoutException("Element not clickable within timeout: " + locator, e);
                     } catch (org.openqa.selenium.NoSuchElementException e) {
                         throw new ElementNotFoundException("Element not found in DOM: " + locator, e);
                     }
                 },
-                "Element to be clickable: " + locator,
-                3  // MAX_RETRIES
+                OperationName.of("Element to be clickable: ", locator),
+                policy,
+                deadline,
+                null  // circuit breaker is applied by the calling action
             );
             logger.debug("Element is now clickable: {}", locator);
             return element;
@@ -149,18 +477,32 @@ public class BasePage {
      * @throws ElementNotFoundException if cannot click after 3 attempts
      */
     protected void clickElement(By locator) {
+        clickElement(locator, getRetryPolicy());
+    }
+
+    /**
+     * Click element with a specific retry policy
+     *
+     * @param locator element locator
+     * @param policy retry policy for this action (e.g. RetryPolicy.NO_RETRY)
+     * @throws ElementNotFoundException if cannot click
+     * @throws CircuitOpenException if this locator or the environment keeps failing
+     */
+    protected void clickElement(By locator, RetryPolicy policy) {
         logger.debug("Attempting to click element: {}", locator);
+        Deadline deadline = newActionDeadline();
 
         try {
             RetryUtils.retryOperation(
                 () -> {
                     try {
-                        WebElement element = waitForElementToBeClickable(locator);
+                        WebElement element = waitForElementToBeClickable(locator, deadline, policy);
                         element.click();
                         logger.info("Element clicked successfully: {}", locator);
                         return null;  // void operation, return null
                     } catch (org.openqa.selenium.StaleElementReferenceException e) {
                         logger.warn("Stale element reference while clicking: {}", locator);
+                        invalidateCachedElement(locator);
                         throw new ElementNotFoundException("Stale element (DOM changed) while clicking: " + locator, e);
                     } catch (org.openqa.selenium.NoSuchElementException e) {
                         logger.warn("Element not found while clicking: {}", locator);
@@ -173,8 +515,10 @@ public class BasePage {
                         throw new TimeoutException("Timeout waiting for clickable element: " + locator, e);
                     }
                 },
-                "Click element: " + locator,
-                3  // MAX_RETRIES
+                OperationName.of("Click element: ", locator),
+                policy,
+                deadline,
+                circuitKey(locator)
             );
         } catch (ElementNotFoundException e) {
             logger.error("Failed to click element after retries: {} | Error: {}", locator, e.getMessage());
@@ -182,6 +526,9 @@ public class BasePage {
         } catch (TimeoutException e) {
             logger.error("Timeout while clicking element: {} | Error: {}", locator, e.getMessage());
             throw e;
+        } catch (CircuitOpenException e) {
+            logger.error("Circuit open - not attempting action on: {} | {}", locator, e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error while clicking element: {} | Error: {}", locator, e.getMessage(), e);
             throw new ElementNotFoundException("Cannot click element - unexpected error: " + locator, e);
@@ -203,7 +550,21 @@ public class BasePage {
      * @throws ElementNotFoundException if cannot type after 3 attempts
      */
     protected void typeText(By locator, String text) {
+        typeText(locator, text, getRetryPolicy());
+    }
+
+    /**
+     * Type text into element with a specific retry policy
+     *
+     * @param locator element locator
+     * @param text text to type
+     * @param policy retry policy for this action
+     * @throws ElementNotFoundException if cannot type
+     * @throws CircuitOpenException if this locator or the environment keeps failing
+     */
+    protected void typeText(By locator, String text, RetryPolicy policy) {
         logger.debug("Attempting to type text in element: {}", locator);
+        Deadline deadline = newActionDeadline();
 
         try {
             if (text == null || text.isEmpty()) {
@@ -213,7 +574,7 @@ public class BasePage {
             RetryUtils.retryOperation(
                 () -> {
                     try {
-                        WebElement element = waitForElementToBeVisible(locator);
+                        WebElement element = waitForElementToBeVisible(locator, deadline, policy);
 
                         try {
                             element.clear();
@@ -228,6 +589,7 @@ public class BasePage {
                         return null;
                     } catch (org.openqa.selenium.StaleElementReferenceException e) {
                         logger.warn("Stale element reference while typing: {}", locator);
+                        invalidateCachedElement(locator);
                         throw new ElementNotFoundException("Stale element (DOM changed) while typing: " + locator, e);
                     } catch (org.openqa.selenium.NoSuchElementException e) {
                         logger.warn("Element not found while typing: {}", locator);
@@ -240,8 +602,10 @@ public class BasePage {
                         throw new TimeoutException("Timeout waiting for visible element: " + locator, e);
                     }
                 },
-                "Type text in element: " + locator,
-                3  // MAX_RETRIES
+                OperationName.of("Type text in element: ", locator),
+                policy,
+                deadline,
+                circuitKey(locator)
             );
         } catch (ElementNotFoundException e) {
             logger.error("Failed to type text after retries: {} | Error: {}", locator, e.getMessage());
@@ -249,6 +613,9 @@ public class BasePage {
         } catch (TimeoutException e) {
             logger.error("Timeout while typing in element: {} | Error: {}", locator, e.getMessage());
             throw e;
+        } catch (CircuitOpenException e) {
+            logger.error("Circuit open - not attempting action on: {} | {}", locator, e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error while typing: {} | Error: {}", locator, e.getMessage(), e);
             throw new ElementNotFoundException("Cannot type text - unexpected error: " + locator, e);
@@ -263,17 +630,32 @@ public class BasePage {
      * @throws ElementNotFoundException if cannot get text after 3 attempts
      */
     protected String getElementText(By locator) {
+        return getElementText(locator, getRetryPolicy());
+    }
+
+    /**
+     * Get text from element with a specific retry policy
+     *
+     * @param locator element locator
+     * @param policy retry policy for this action
+     * @return element text
+     * @throws ElementNotFoundException if cannot get text
+     * @throws CircuitOpenException if this locator or the environment keeps failing
+     */
+    protected String getElementText(By locator, RetryPolicy policy) {
         logger.debug("Attempting to get text from element: {}", locator);
+        Deadline deadline = newActionDeadline();
 
         try {
             String text = RetryUtils.retryOperation(
                 () -> {
                     try {
-                        String retrievedText = waitForElementToBeVisible(locator).getText();
+                        String retrievedText = waitForElementToBeVisible(locator, deadline, policy).getText();
                         logger.info("Text retrieved from element: {} = '{}'", locator, retrievedText);
                         return retrievedText;
                     } catch (org.openqa.selenium.StaleElementReferenceException e) {
                         logger.warn("Stale element reference while getting text: {}", locator);
+                        invalidateCachedElement(locator);
                         throw new ElementNotFoundException("Stale element (DOM changed): " + locator, e);
                     } catch (org.openqa.selenium.NoSuchElementException e) {
                         logger.warn("Element not found while getting text: {}", locator);
@@ -283,8 +665,10 @@ public class BasePage {
                         throw new TimeoutException("Timeout waiting for element: " + locator, e);
                     }
                 },
-                "Get text from element: " + locator,
-                3  // MAX_RETRIES
+                OperationName.of("Get text from element: ", locator),
+                policy,
+                deadline,
+                circuitKey(locator)
             );
             return text;
         } catch (ElementNotFoundException e) {
@@ -293,6 +677,9 @@ public class BasePage {
         } catch (TimeoutException e) {
             logger.error("Timeout while getting text from element: {} | Error: {}", locator, e.getMessage());
             throw e;
+        } catch (CircuitOpenException e) {
+            logger.error("Circuit open - not attempting action on: {} | {}", locator, e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error while getting text: {} | Error: {}", locator, e.getMessage(), e);
             throw new ElementNotFoundException("Cannot get text - unexpected error: " + locator, e);
@@ -300,7 +687,9 @@ public class BasePage {
     }
 
     /**
-     * Check if element is displayed (no retry - quick check)
+     * Check if element is displayed (waits for visibility)
+     * For elements that may legitimately be absent use isElementPresentNow()
+     * or isElementDisplayedWithin() instead - they answer in milliseconds
      *
      * @param locator element locator
      * @return true if element is visible, false otherwise
@@ -325,6 +714,230 @@ public class BasePage {
         }
     }
 
+    /**
+     * Check if element exists in the DOM right now (single probe, no waiting)
+     *
+     * Runs one findElements with the implicit wait switched off, so absence is
+     * reported in one round-trip instead of after the full visibility wait.
+     *
+     * @param locator element locator
+     * @return true if at least one matching element exists
+     */
+    protected boolean isElementPresentNow(By locator) {
+        boolean isPresent = !findElementsNow(locator).isEmpty();
+        logger.debug("Element present now: {} = {}", locator, isPresent);
+        return isPresent;
+    }
+
+    /**
+     * Check if element becomes visible within a short window (bounded poll)
+     *
+     * Polls findElements with zero implicit wait every PROBE_POLL_INTERVAL_MS.
+     * Use for optional elements (error banners, badges) where absence is a valid answer.
+     *
+     * @param locator element locator
+     * @param within maximum time to wait for the element to appear
+     * @return true if a matching element is displayed before the window closes
+     */
+    protected boolean isElementDisplayedWithin(By locator, Duration within) {
+        long endNanos = System.nanoTime() + within.toNanos();
+        boolean isDisplayed = withoutImplicitWait(() -> {
+            while (true) {
+                for (WebElement element : driver.findElements(locator)) {
+                    try {
+                        if (element.isDisplayed()) {
+                            return true;
+                        }
+                    } catch (org.openqa.selenium.StaleElementReferenceException e) {
+                        // Re-rendered between find and check - next poll picks up the new node
+                    }
+                }
+                if (System.nanoTime() - endNanos >= 0) {
+                    return false;
+                }
+                try {
+                    Thread.sleep(PROBE_POLL_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        });
+        logger.debug("Element displayed within {} ms: {} = {}", within.toMillis(), locator, isDisplayed);
+        return isDisplayed;
+    }
+
+    /**
+     * Check if optional element is displayed using the configured probe window
+     *
+     * @param locator element locator
+     * @return true if displayed within presence.probe.ms
+     */
+    protected boolean isOptionalElementDisplayed(By locator) {
+        return isElementDisplayedWithin(locator, Duration.ofMillis(ConfigManager.getPresenceProbeMillis()));
+    }
+
+    /**
+     * Find elements without waiting for them to appear
+     *
+     * @param locator element locator
+     * @return matching elements (empty list if none)
+     */
+    protected List<WebElement> findElementsNow(By locator) {
+        return withoutImplicitWait(() -> driver.findElements(locator));
+    }
+
+    /**
+     * Return the cached element for a locator if it can be used as is
+     *
+     * One isDisplayed (and isEnabled) call instead of a fresh findElement + checks.
+     * A stale or no longer usable reference is dropped so the caller re-locates it.
+     *
+     * @param locator element locator
+     * @param mustBeEnabled also require isEnabled() (clickable)
+     * @return cached element, or null if absent, stale or not usable
+     */
+    protected WebElement getCachedElement(By locator, boolean mustBeEnabled) {
+        if (!elementCacheEnabled) {
+            return null;
+        }
+        WebElement cached = elementCache.get(locator);
+        if (cached == null) {
+            return null;
+        }
+        try {
+            if (cached.isDisplayed() && (!mustBeEnabled || cached.isEnabled())) {
+                logger.debug("Element cache hit: {}", locator);
+                return cached;
+            }
+        } catch (org.openqa.selenium.StaleElementReferenceException e) {
+            logger.debug("Cached element went stale: {}", locator);
+            elementCache.remove(locator);
+        }
+        return null;
+    }
+
+    private WebElement cacheElement(By locator, WebElement element) {
+        if (elementCacheEnabled && element != null) {
+            elementCache.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Drop one cached element (e.g. after StaleElementReferenceException)
+     *
+     * @param locator element locator
+     */
+    protected void invalidateCachedElement(By locator) {
+        elementCache.remove(locator);
+    }
+
+    /**
+     * Drop all cached elements - called on navigation and page load
+     */
+    protected void clearElementCache() {
+        if (!elementCache.isEmpty()) {
+            logger.debug("Clearing element cache ({} entries)", elementCache.size());
+            elementCache.clear();
+        }
+    }
+
+    /**
+     * Read presence, visibility, text and attributes of several elements in one round-trip
+     *
+     * All locators are resolved inside a single executeScript call instead of one
+     * findElement/getText/isDisplayed request per element - the saving grows with
+     * the latency to the driver (remote grids). No waiting and no retry: callers wait
+     * once for the container (e.g. waitForElementToBeVisible) and then query.
+     *
+     * Locators must be standard By types (id, name, className, cssSelector, xpath,
+     * tagName, linkText, partialLinkText); custom By types are read one by one.
+     *
+     * @param locators elements to inspect (first match of each is used)
+     * @param attributeNames attributes to read from every present element
+     * @return state per locator, in the order given
+     */
+    protected Map<By, ElementState> queryElements(List<By> locators, String... attributeNames) {
+        long startNanos = System.nanoTime();
+        List<Map<String, String>> queries = new ArrayList<>(locators.size());
+        for (By locator : locators) {
+            queries.add(toScriptQuery(locator));
+        }
+
+        Object raw = ((JavascriptExecutor) driver).executeScript(BATCH_QUERY_SCRIPT, queries, Arrays.asList(attributeNames));
+
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        List<?> results = raw instanceof List ? (List<?>) raw : List.of();
+        for (int i = 0; i < locators.size(); i++) {
+            By locator = locators.get(i);
+            Object entry = i < results.size() ? results.get(i) : null;
+            if (queries.get(i) == null || (entry instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) entry).get("unsupported")))) {
+                states.put(locator, readElementState(locator, attributeNames));
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = entry instanceof Map ? (Map<String, Object>) entry : null;
+            states.put(locator, ElementState.fromScriptResult(locator, result));
+        }
+        logger.debug("Queried {} elements in one round-trip ({} ms)", locators.size(),
+                (System.nanoTime() - startNanos) / 1_000_000L);
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Convert a locator to the {using, value} form understood by FIND_ELEMENT_FUNCTION
+     *
+     * @param locator element locator
+     * @return query map, or null for custom By types without W3C parameters
+     */
+    private static Map<String, String> toScriptQuery(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        Map<String, String> query = new HashMap<>();
+        query.put("using", parameters.using());
+        query.put("value", String.valueOf(parameters.value()));
+        return query;
+    }
+
+    /**
+     * Fallback for locators the batch script cannot resolve - standard WebElement calls
+     */
+    private ElementState readElementState(By locator, String... attributeNames) {
+        List<WebElement> elements = findElementsNow(locator);
+        if (elements.isEmpty()) {
+            return ElementState.absent(locator);
+        }
+        WebElement element = elements.get(0);
+        try {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (String name : attributeNames) {
+                attributes.put(name, element.getAttribute(name));
+            }
+            boolean displayed = element.isDisplayed();
+            return new ElementState(locator, true, displayed, displayed ? element.getText().trim() : "", attributes);
+        } catch (org.openqa.selenium.StaleElementReferenceException e) {
+            return ElementState.absent(locator);
+        }
+    }
+
+    /**
+     * Run a driver query with the implicit wait switched off, then restore it
+     */
+    private <T> T withoutImplicitWait(Supplier<T> query) {
+        if (implicitWait.isZero()) {
+            return query.get();
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return query.get();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
     /**
      * Navigate to URL (with exception handling)
      *
@@ -339,6 +952,10 @@ public class BasePage {
             }
 
             try {
+                // Attach before navigating so the page's own requests are tracked
+                NetworkMonitor monitor = networkIdlePeriod.isZero() ? null : DriverManager.getNetworkMonitor();
+
+                clearElementCache();
                 driver.navigate().to(url);
                 logger.info("Successfully navigated to: {}", url);
 
@@ -348,6 +965,10 @@ public class BasePage {
                 } catch (Exception e) {
                     logger.warn("Page load wait timed out, but continuing: {}", url);
                 }
+
+                if (monitor != null) {
+                    monitor.waitForIdle(networkIdlePeriod, networkIdleTimeout);
+                }
             } catch (org.openqa.selenium.UnhandledAlertException e) {
                 logger.error("Unhandled alert while navigating to: {}", url);
                 throw new NavigationException("Unhandled alert during navigation: " + url, e);
@@ -367,6 +988,34 @@ public class BasePage {
         }
     }
 
+    /**
+     * Build an absolute URL of an application page for deep links
+     *
+     * @param path page path relative to base.url, e.g. "cart.html"
+     * @return base URL + "/" + path
+     */
+    protected String getAppUrl(String path) {
+        String baseUrl = ConfigManager.getBaseUrl();
+        return (baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + path;
+    }
+
+    /**
+     * Write one localStorage entry of the open application page
+     * The browser must already be on the application origin
+     *
+     * @param key storage key
+     * @param value storage value
+     * @throws NavigationException if no application page is open
+     */
+    protected void setLocalStorageItem(String key, String value) {
+        if (!driver.getCurrentUrl().startsWith(ConfigManager.getBaseUrl())) {
+            throw new NavigationException("Open the application before writing its storage (current page: "
+                    + driver.getCurrentUrl() + ")");
+        }
+        ((JavascriptExecutor) driver).executeScript("window.localStorage.setItem(arguments[0], arguments[1]);", key, value);
+        logger.debug("localStorage['{}'] = {}", key, value);
+    }
+
     /**
      * Get current page title
      * @return page title
@@ -390,11 +1039,15 @@ public class BasePage {
     /**
      * Wait for page to load completely
      * Useful before performing actions
+     *
+     * readyState=complete is reached before a React app finishes rendering, so with
+     * wait.dom.stable.enabled=true this also waits for the DOM to go quiet (waitForDomStable)
      */
     public void waitForPageLoad() {
         logger.debug("Waiting for page to load");
+        clearElementCache();
         try {
-            wait.until(webDriver -> {
+            newWait(pageLoadTimeout).until(webDriver -> {
                 try {
                     boolean isReady = (Boolean) ((org.openqa.selenium.JavascriptExecutor) webDriver)
                             .executeScript("return document.readyState").equals("complete");
@@ -406,6 +1059,9 @@ public class BasePage {
                 }
             });
             logger.info("Page loaded successfully");
+            if (!domQuietPeriod.isZero()) {
+                waitForDomStable(domQuietPeriod, domStableTimeout);
+            }
         } catch (org.openqa.selenium.TimeoutException e) {
             logger.warn("Page load wait timed out (continuing anyway): {}", e.getMessage());
             throw new TimeoutException("Page load timeout", e);
@@ -413,4 +1069,192 @@ public class BasePage {
             logger.warn("Error waiting for page load: {} (continuing anyway)", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Register the DOM observer to run at document start in the current window (Chromium)
+     * Once per session and window: pooled sessions keep it across tests, an isolated
+     * context's tab gets its own. Other browsers create the observer on the first wait.
+     */
+    private static void installDomObserver(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        try {
+            String target = driver.getWindowHandle();
+            synchronized (domObserverTargets) {
+                if (!domObserverTargets.computeIfAbsent(driver, key -> new HashSet<>()).add(target)) {
+                    return;
+                }
+            }
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", DOM_OBSERVER_FUNCTION + "domQuietState();"));
+            logger.debug("DOM observer registered at document start for window {}", target);
+        } catch (Exception e) {
+            logger.debug("DOM observer not registered (observer starts on first wait): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Wait until the DOM has had no mutations for the quiet period
+     *
+     * One executeAsyncScript call: a MutationObserver records the time of the last mutation
+     * and the script calls back as soon as the DOM has been quiet long enough - no client-side
+     * polling. On Chromium the observer runs from document start, so a page that finished
+     * rendering earlier returns at once; elsewhere it starts with the first wait on a document.
+     *
+     * @param quietPeriod how long the DOM must be unchanged
+     * @param timeout give up after this long (capped by the driver's script timeout)
+     * @return true if the DOM settled, false if it was still changing when the timeout hit
+     */
+    public boolean waitForDomStable(Duration quietPeriod, Duration timeout) {
+        long startNanos = System.nanoTime();
+        try {
+            Object settled = ((JavascriptExecutor) driver).executeAsyncScript(DOM_QUIET_SCRIPT,
+                    quietPeriod.toMillis(), timeout.toMillis());
+            boolean isStable = Boolean.TRUE.equals(settled);
+            logger.debug("DOM stable: {} after {} ms (quiet period {} ms)", isStable,
+                    (System.nanoTime() - startNanos) / 1_000_000L, quietPeriod.toMillis());
+            if (!isStable) {
+                logger.warn("DOM still changing after {} ms - continuing", timeout.toMillis());
+            }
+            return isStable;
+        } catch (org.openqa.selenium.ScriptTimeoutException e) {
+            logger.warn("DOM stability wait exceeded the script timeout - continuing: {}", e.getMessage());
+            return false;
+        } catch (org.openqa.selenium.JavascriptException e) {
+            logger.debug("DOM stability wait unavailable on this page: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Wait until the session has had no pending requests for wait.network.idle.ms
+     *
+     * @return true if the network went idle, false on timeout
+     */
+    public boolean waitForNetworkIdle() {
+        Duration idle = networkIdlePeriod.isZero()
+                ? Duration.ofMillis(ConfigManager.getNetworkIdleMillis()) : networkIdlePeriod;
+        return waitForNetworkIdle(idle, networkIdleTimeout);
+    }
+
+    /**
+     * Wait until the session has had no pending requests for the idle period
+     *
+     * On Chrome/Edge the wait is driven by DevTools Network events (in-flight request count);
+     * other drivers fall back to a page-side Resource Timing check. Requests started before the
+     * first call on this session are not tracked - navigateToUrl() attaches the monitor up front.
+     *
+     * @param idle how long no request may be pending
+     * @param timeout give up after this long
+     * @return true if the network went idle, false on timeout
+     */
+    public boolean waitForNetworkIdle(Duration idle, Duration timeout) {
+        logger.debug("Waiting for network idle ({} ms quiet)", idle.toMillis());
+        return DriverManager.getNetworkMonitor().waitForIdle(idle, timeout);
+    }
+
+    /**
+     * Fill several form fields in one script execution
+     *
+     * @param fields locator to value, filled in iteration order (use a LinkedHashMap)
+     * @throws ElementNotFoundException if a field cannot be found after retries
+     */
+    protected void fillForm(Map<By, String> fields) {
+        fillForm(fields, null);
+    }
+
+    /**
+     * Fill several form fields and optionally submit - one fill script instead of a
+     * wait + clear + sendKeys round-trip sequence per field
+     *
+     * Steps:
+     * 1. Wait once for the first field to be visible (the form is rendered)
+     * 2. One executeScript: set each value via the native setter, dispatch input/change
+     *    events (React-compatible) and check that the submit element exists
+     * 3. Steps 1-2 are retried as a whole (RetryPolicy/Deadline/circuit breaker as other
+     *    actions) if a field is missing - filling again is harmless
+     * 4. Submit is clicked once, outside the retry, so a failure after the click can never
+     *    submit the form twice
+     *
+     * Falls back to typeText/clickElement per field when a locator is a custom By type.
+     * Values are not logged (passwords).
+     *
+     * @param fields locator to value, filled in iteration order (use a LinkedHashMap)
+     * @param submit element to click after filling, or null
+     * @throws ElementNotFoundException if a field or the submit element cannot be found
+     * @throws CircuitOpenException if the form keeps failing
+     */
+    protected void fillForm(Map<By, String> fields, By submit) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        List<By> locators = new ArrayList<>(fields.keySet());
+        logger.debug("Filling form with {} fields (submit: {})", locators.size(), submit);
+
+        List<Map<String, String>> queries = new ArrayList<>(locators.size());
+        for (By locator : locators) {
+            Map<String, String> query = toScriptQuery(locator);
+            if (query == null) {
+                fillFormFieldByField(fields, submit);
+                return;
+            }
+            query.put("text", fields.get(locator) != null ? fields.get(locator) : "");
+            queries.add(query);
+        }
+        Map<String, String> submitQuery = submit != null ? toScriptQuery(submit) : null;
+        if (submit != null && submitQuery == null) {
+            fillFormFieldByField(fields, submit);
+            return;
+        }
+
+        RetryPolicy policy = getRetryPolicy();
+        Deadline deadline = newActionDeadline();
+        By firstField = locators.get(0);
+        try {
+            RetryUtils.retryOperation(
+                () -> {
+                    waitForElementToBeVisible(firstField, deadline, policy);
+                    Object missing = ((JavascriptExecutor) driver).executeScript(FORM_FILL_SCRIPT, queries, submitQuery);
+                    if (missing instanceof List && !((List<?>) missing).isEmpty()) {
+                        throw new ElementNotFoundException("Form elements not found (indexes, -1 = submit): "
+                                + missing + " of " + locators);
+                    }
+                    return null;
+                },
+                OperationName.of("Fill form: ", locators),
+                policy,
+                deadline,
+                circuitKey(firstField)
+            );
+            if (submitQuery != null) {
+                Object clicked = ((JavascriptExecutor) driver).executeScript(SUBMIT_SCRIPT, submitQuery);
+                if (!Boolean.TRUE.equals(clicked)) {
+                    throw new ElementNotFoundException("Submit element disappeared after filling the form: " + submit);
+                }
+            }
+            logger.info("Form filled: {} fields{}", locators.size(), submit != null ? " and submitted" : "");
+        } catch (ElementNotFoundException | TimeoutException | CircuitOpenException e) {
+            logger.error("Failed to fill form {} | Error: {}", locators, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error while filling form: {} | Error: {}", locators, e.getMessage(), e);
+            throw new ElementNotFoundException("Cannot fill form - unexpected error: " + locators, e);
+        } finally {
+            if (submit != null) {
+                // Submitting usually navigates - references of this page are no longer valid
+                clearElementCache();
+            }
+        }
+    }
+
+    private void fillFormFieldByField(Map<By, String> fields, By submit) {
+        logger.debug("Form has custom locators - filling field by field");
+        for (Map.Entry<By, String> field : fields.entrySet()) {
+            typeText(field.getKey(), field.getValue());
+        }
+        if (submit != null) {
+            clickElement(submit);
+        }
+    }
+}
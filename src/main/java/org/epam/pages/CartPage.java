@@ -1,19 +1,40 @@
 package org.epam.pages;
 
+import org.epam.config.ConfigManager;
 import org.epam.exceptions.ElementNotFoundException;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
 /**
  * Shopping Cart Page Object
  *
  * Encapsulates all shopping cart page elements and actions
  * Extends BasePage for retry mechanism and common operations
+ *
+ * Fixtures: seedCart()/openWithItems() write the cart straight into browser storage,
+ * so cart tests don't have to add products through the inventory page.
  */
 public class CartPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(CartPage.class);
 
+    // SauceDemo keeps the cart client-side: localStorage["cart-contents"] = JSON array of product ids
+    static final String CART_STORAGE_KEY = "cart-contents";
+    private static final String CART_PATH = "cart.html";
+
+    private static final String REMOVE_ALL_SCRIPT =
+            "var buttons = Array.prototype.slice.call(document.querySelectorAll(\".cart_item button[id^='remove']\"));"
+            + "buttons.forEach(function (button) { button.click(); });"
+            + "return buttons.length;";
+
+    // Counted in the page, so an empty cart answers at once (findElements would sit out the implicit wait)
+    private static final String CART_ROW_COUNT_SCRIPT = "return document.querySelectorAll('.cart_item').length;";
+
     // Page elements (locators)
     private final By cartContainer = By.className("cart_list");
     private final By cartItem = By.className("cart_item");
@@ -21,6 +42,39 @@ public class CartPage extends BasePage {
     private final By cartPageTitle = By.className("title");
     private final By cartEmptyMessage = By.className("complete-text");
 
+    /**
+     * Replace the cart contents directly in browser storage (no clicks)
+     * Takes effect on the next page load. The user must be logged in on the application.
+     *
+     * @param products products to put in the cart, in order
+     */
+    public void seedCart(Product... products) {
+        logger.info("Seeding cart with {} product(s)", products.length);
+        setLocalStorageItem(CART_STORAGE_KEY, toCartContents(products));
+    }
+
+    /**
+     * Fixture: seed the cart and deep-link to cart.html
+     *
+     * @param products products to put in the cart, in order
+     */
+    public void openWithItems(Product... products) {
+        seedCart(products);
+        navigateToUrl(getAppUrl(CART_PATH));
+        logger.info("Cart opened with {} seeded product(s)", products.length);
+    }
+
+    /**
+     * @return SauceDemo cart-contents value, e.g. "[4,0]"
+     */
+    static String toCartContents(Product... products) {
+        StringJoiner ids = new StringJoiner(",", "[", "]");
+        for (Product product : products) {
+            ids.add(String.valueOf(product.getId()));
+        }
+        return ids.toString();
+    }
+
     /**
      * Check if cart page is displayed
      * @return true if cart container is visible
@@ -39,8 +93,8 @@ public class CartPage extends BasePage {
     public int getCartItemCount() {
         logger.debug("Getting cart item count");
         try {
-            // Find all cart items
-            int count = driver.findElements(cartItem).size();
+            // Cart rows are rendered with the page - count them without waiting for absent ones
+            int count = findElementsNow(cartItem).size();
             logger.info("Cart item count: {}", count);
             return count;
         } catch (Exception e) {
@@ -49,6 +103,20 @@ public class CartPage extends BasePage {
         }
     }
 
+    /**
+     * Get all cart rows from one DOM read
+     *
+     * @return immutable list of cart items (empty if the cart is empty)
+     */
+    public List<ProductItem> getItems() {
+        logger.debug("Reading all cart items");
+        waitForElementToBeVisible(cartContainer);
+        List<ProductItem> items = ProductItem.fromScriptResult(
+                ((JavascriptExecutor) driver).executeScript(ProductItem.READ_ITEMS_SCRIPT, ".cart_item"));
+        logger.info("Cart items: {}", items);
+        return items;
+    }
+
     /**
      * Check if specific item is in cart
      * @param itemName name of item to check
@@ -58,7 +126,7 @@ public class CartPage extends BasePage {
         logger.debug("Checking if item is in cart: {}", itemName);
         try {
             By itemLocator = By.xpath("//div[contains(text(), '" + itemName + "')]");
-            boolean isPresent = isElementDisplayed(itemLocator);
+            boolean isPresent = isOptionalElementDisplayed(itemLocator);
             logger.info("Item '{}' in cart: {}", itemName, isPresent);
             return isPresent;
         } catch (ElementNotFoundException e) {
@@ -123,14 +191,30 @@ public class CartPage extends BasePage {
     }
 
     /**
-     * Remove all items from cart
+     * Remove all items from cart in one pass
+     *
+     * One script clicks every remove button (pre-resolved before the first click, so
+     * re-rendering can't skip rows). React commits the removals after the script returns,
+     * so the empty cart is then confirmed by a bounded wait on the row count (timeout
+     * seconds, polled at wait.polling.ms). No per-item waits.
+     *
+     * @throws ElementNotFoundException if rows are still present when the wait runs out
      */
     public void removeAllItems() {
         logger.info("Removing all items from cart");
-        while (getCartItemCount() > 0) {
-            removeFirstItem();
+        waitForElementToBeVisible(cartContainer);
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long removed = ((Number) js.executeScript(REMOVE_ALL_SCRIPT)).longValue();
+        clearElementCache();
+        try {
+            waitUntil(d -> ((Number) js.executeScript(CART_ROW_COUNT_SCRIPT)).longValue() == 0,
+                    Duration.ofSeconds(ConfigManager.getTimeout()), newActionDeadline());
+        } catch (org.openqa.selenium.TimeoutException e) {
+            long remaining = ((Number) js.executeScript(CART_ROW_COUNT_SCRIPT)).longValue();
+            logger.error("{} item(s) still in cart after removing {}", remaining, removed);
+            throw new ElementNotFoundException("Cart not empty after removing all items: " + remaining + " left", e);
         }
-        logger.info("All items removed from cart");
+        logger.info("All items removed from cart ({} removed)", removed);
     }
 
     /**
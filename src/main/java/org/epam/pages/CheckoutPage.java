@@ -5,6 +5,10 @@ import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Checkout Page Object
  *
@@ -16,7 +20,7 @@ import org.slf4j.LoggerFactory;
  * Features:
  * - Enter shipping information
  * - Validate form errors
- * - Review order summary
+ * - Review order summary (subtotal, tax and total in one batch query)
  * - Complete purchase
  * - Cancel order
  */
@@ -44,6 +48,30 @@ public class CheckoutPage extends BasePage {
     private final By orderCompleteHeader = By.className("complete-header");
     private final By orderCompleteText = By.className("complete-text");
 
+    /**
+     * Fixture: seed the cart and deep-link to checkout step one (information form)
+     *
+     * @param products products to put in the cart, in order
+     */
+    public void openInformationStepWithItems(Product... products) {
+        openStepWithItems("checkout-step-one.html", products);
+    }
+
+    /**
+     * Fixture: seed the cart and deep-link to checkout step two (overview)
+     *
+     * @param products products to put in the cart, in order
+     */
+    public void openOverviewStepWithItems(Product... products) {
+        openStepWithItems("checkout-step-two.html", products);
+    }
+
+    private void openStepWithItems(String stepPath, Product... products) {
+        logger.info("Opening {} with {} seeded product(s)", stepPath, products.length);
+        setLocalStorageItem(CartPage.CART_STORAGE_KEY, CartPage.toCartContents(products));
+        navigateToUrl(getAppUrl(stepPath));
+    }
+
     /**
      * Verify if checkout information page is displayed
      *
@@ -121,7 +149,7 @@ public class CheckoutPage extends BasePage {
 
     /**
      * Complete checkout information step
-     * Fills in all required fields and clicks continue
+     * Fills in all required fields in one fillForm() script execution
      *
      * @param firstName customer first name
      * @param lastName customer last name
@@ -131,13 +159,33 @@ public class CheckoutPage extends BasePage {
         logger.info("Filling checkout information - First: {}, Last: {}, Postal: {}",
                    firstName, lastName, postalCode);
 
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterPostalCode(postalCode);
+        fillForm(checkoutInformation(firstName, lastName, postalCode));
 
         logger.debug("All checkout information filled");
     }
 
+    /**
+     * Fill checkout information in one script execution and continue to the overview
+     *
+     * @param firstName customer first name
+     * @param lastName customer last name
+     * @param postalCode customer postal code
+     */
+    public void fillCheckoutInformationAndContinue(String firstName, String lastName, String postalCode) {
+        logger.info("Filling checkout information and continuing - First: {}, Last: {}, Postal: {}",
+                   firstName, lastName, postalCode);
+        fillForm(checkoutInformation(firstName, lastName, postalCode), continueButton);
+        logger.info("Proceeding to checkout overview");
+    }
+
+    private Map<By, String> checkoutInformation(String firstName, String lastName, String postalCode) {
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(firstNameField, firstName);
+        fields.put(lastNameField, lastName);
+        fields.put(postalCodeField, postalCode);
+        return fields;
+    }
+
     /**
      * Click continue button to proceed to overview
      *
@@ -168,7 +216,7 @@ public class CheckoutPage extends BasePage {
     public String getErrorMessage() {
         logger.debug("Retrieving error message");
         try {
-            if (isElementDisplayed(errorMessage)) {
+            if (isOptionalElementDisplayed(errorMessage)) {
                 String message = getElementText(errorMessage);
                 logger.info("Error message: {}", message);
                 return message;
@@ -244,6 +292,24 @@ public class CheckoutPage extends BasePage {
         }
     }
 
+    /**
+     * Get subtotal, tax and total in one round-trip
+     * Waits once for the summary block, then reads all three labels with a single batch query
+     *
+     * @return order summary (empty strings for labels that are not displayed)
+     */
+    public OrderSummary getOrderSummary() {
+        logger.debug("Retrieving order summary");
+        waitForElementToBeVisible(orderSummary);
+        Map<By, ElementState> states = queryElements(List.of(summaryItemTotal, summaryTax, summaryTotal));
+        OrderSummary summary = new OrderSummary(
+                states.get(summaryItemTotal).getText(),
+                states.get(summaryTax).getText(),
+                states.get(summaryTotal).getText());
+        logger.info("Order summary: {}", summary);
+        return summary;
+    }
+
     /**
      * Click finish button to complete purchase
      *
@@ -315,5 +381,45 @@ public class CheckoutPage extends BasePage {
             return "";
         }
     }
-}
 
+    /**
+     * Subtotal, tax and total labels of the checkout overview
+     */
+    public static final class OrderSummary {
+        private final String subtotal;
+        private final String tax;
+        private final String total;
+
+        public OrderSummary(String subtotal, String tax, String total) {
+            this.subtotal = subtotal;
+            this.tax = tax;
+            this.total = total;
+        }
+
+        /**
+         * @return subtotal text (e.g., "Item total: $29.99")
+         */
+        public String getSubtotal() {
+            return subtotal;
+        }
+
+        /**
+         * @return tax text (e.g., "Tax: $2.40")
+         */
+        public String getTax() {
+            return tax;
+        }
+
+        /**
+         * @return total text (e.g., "Total: $32.39")
+         */
+        public String getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "subtotal='" + subtotal + "', tax='" + tax + "', total='" + total + "'";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.epam.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Element State - Snapshot of one element read by BasePage.queryElements()
+ *
+ * Immutable. Holds what a page check usually needs - presence, visibility, visible text
+ * and selected attributes - so several elements can be inspected from one script call.
+ * Absent elements are reported as not present, not displayed, with empty text.
+ *
+ * Usage:
+ * Map<By, ElementState> states = queryElements(List.of(subtotal, tax, total));
+ * String tax = states.get(tax).getText();
+ */
+public final class ElementState {
+
+    private final By locator;
+    private final boolean present;
+    private final boolean displayed;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    ElementState(By locator, boolean present, boolean displayed, String text, Map<String, String> attributes) {
+        this.locator = locator;
+        this.present = present;
+        this.displayed = displayed;
+        this.text = text != null ? text : "";
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+
+    /**
+     * State reported for an element that is not in the DOM
+     */
+    static ElementState absent(By locator) {
+        return new ElementState(locator, false, false, "", Collections.emptyMap());
+    }
+
+    /**
+     * Build a state from one entry of the batch script result
+     */
+    @SuppressWarnings("unchecked")
+    static ElementState fromScriptResult(By locator, Map<String, Object> raw) {
+        if (raw == null || !Boolean.TRUE.equals(raw.get("present"))) {
+            return absent(locator);
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Object rawAttributes = raw.get("attributes");
+        if (rawAttributes instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) rawAttributes).entrySet()) {
+                attributes.put(entry.getKey(), entry.getValue() != null ? String.valueOf(entry.getValue()) : null);
+            }
+        }
+        Object text = raw.get("text");
+        return new ElementState(locator, true, Boolean.TRUE.equals(raw.get("displayed")),
+                text != null ? String.valueOf(text) : "", attributes);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * @return true if a matching element exists in the DOM
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * @return true if the element is rendered with a non-zero size and is not hidden
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * @return visible text (trimmed), empty string if absent or hidden
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @param name attribute name requested in queryElements()
+     * @return attribute value, or null if not set / not requested
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState[" + locator + ", present=" + present + ", displayed=" + displayed
+                + ", text='" + text + "', attributes=" + attributes + "]";
+    }
+}
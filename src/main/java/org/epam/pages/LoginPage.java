@@ -1,6 +1,8 @@
 package org.epam.pages;
 
 import org.epam.config.ConfigManager;
+import org.epam.driver.SessionSnapshot;
+import org.epam.driver.SessionStore;
 import org.epam.exceptions.ElementNotFoundException;
 import org.epam.exceptions.NavigationException;
 import org.epam.exceptions.TimeoutException;
@@ -8,6 +10,9 @@ import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Login Page Object
  *
@@ -16,6 +21,7 @@ import org.slf4j.LoggerFactory;
  *
  * Features:
  * - Login with username and password
+ * - Login reusing a saved session (cookies + storage) to skip the form
  * - Verify login success/failure
  * - Validate error messages
  * - Check page display status
@@ -25,6 +31,7 @@ public class LoginPage extends BasePage {
 
     // Page URLs
     private static final String LOGIN_PAGE_URL = "https://www.saucedemo.com";
+    private static final String INVENTORY_PATH = "inventory.html";
 
     // Page elements (locators)
     private final By usernameField = By.id("user-name");
@@ -71,6 +78,7 @@ public class LoginPage extends BasePage {
 
     /**
      * Complete login flow: enter credentials and click login
+     * Fills both fields and submits through one fillForm() script execution
      *
      * @param username the username
      * @param password the password
@@ -87,9 +95,11 @@ public class LoginPage extends BasePage {
             }
 
             try {
-                enterUsername(username);
-                enterPassword(password);
-                clickLoginButton();
+                // Username and password in one script execution, then a single submit click
+                Map<By, String> credentials = new LinkedHashMap<>();
+                credentials.put(usernameField, username);
+                credentials.put(passwordField, password);
+                fillForm(credentials, loginButton);
                 logger.info("Login flow completed successfully");
             } catch (ElementNotFoundException e) {
                 logger.error("Login failed - element not found: {}", e.getMessage());
@@ -103,6 +113,67 @@ public class LoginPage extends BasePage {
         }
     }
 
+    /**
+     * Log in and land on the inventory page, reusing a saved session when possible
+     *
+     * For tests that need a logged-in user but don't test login itself:
+     * 1. If SessionStore holds a valid snapshot for this user, apply its cookies and
+     *    storage and open inventory.html - no login form
+     * 2. If the application rejects it (redirect back to login), invalidate the snapshot
+     * 3. Otherwise log in through the UI and capture a snapshot for the next test
+     *
+     * Disabled by session.reuse.enabled=false (always logs in through the UI).
+     *
+     * @param username the username
+     * @param password the password
+     * @throws ElementNotFoundException if the UI login fails
+     */
+    public void loginReusingSession(String username, String password) {
+        boolean reuse = ConfigManager.isSessionReuseEnabled();
+        if (reuse) {
+            SessionSnapshot snapshot = SessionStore.get(username);
+            if (snapshot != null) {
+                if (restoreSession(snapshot)) {
+                    logger.info("Logged in as '{}' from saved session", username);
+                    return;
+                }
+                logger.warn("Saved session for '{}' was rejected - logging in through the UI", username);
+                SessionStore.invalidate(username);
+            }
+        }
+
+        if (!isElementPresentNow(usernameField)) {
+            navigateToLoginPage();
+        }
+        login(username, password);
+
+        if (reuse) {
+            waitForUrlContains(INVENTORY_PATH);
+            SessionStore.put(username, SessionSnapshot.capture(driver));
+        }
+    }
+
+    /**
+     * Apply a snapshot and open the inventory page
+     *
+     * @return true if the application accepted the session
+     */
+    private boolean restoreSession(SessionSnapshot snapshot) {
+        try {
+            // Cookies can only be set for the page that is open
+            if (!driver.getCurrentUrl().startsWith(snapshot.getOrigin())) {
+                driver.get(snapshot.getOrigin());
+            }
+            snapshot.applyTo(driver);
+            driver.get(snapshot.getOrigin() + "/" + INVENTORY_PATH);
+            waitForPageLoad();
+            return driver.getCurrentUrl().contains(INVENTORY_PATH) && !isElementPresentNow(usernameField);
+        } catch (Exception e) {
+            logger.warn("Could not restore saved session: {}", e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Verify if login page is displayed
      *
@@ -0,0 +1,78 @@
+package org.epam.pages;
+
+import java.util.Map;
+
+/**
+ * SauceDemo product catalog
+ *
+ * Maps each product to the numeric id SauceDemo uses in its client-side cart
+ * (localStorage "cart-contents", e.g. [4,0]) and in inventory-item.html?id=N.
+ * Used by the cart seeding fixtures to set up a cart without clicking through the UI,
+ * and by ProductsPage to resolve the product names steps and tests use.
+ *
+ * Usage:
+ * cartPage.openWithItems(Product.BACKPACK, Product.BIKE_LIGHT);
+ * Product product = Product.fromName("Backpack");
+ * Product shirt = Product.fromName("T-Shirt");   // alias for the Bolt T-Shirt
+ */
+public enum Product {
+    BIKE_LIGHT(0, "Sauce Labs Bike Light"),
+    BOLT_TSHIRT(1, "Sauce Labs Bolt T-Shirt"),
+    ONESIE(2, "Sauce Labs Onesie"),
+    RED_TSHIRT(3, "Test.allTheThings() T-Shirt (Red)"),
+    BACKPACK(4, "Sauce Labs Backpack"),
+    FLEECE_JACKET(5, "Sauce Labs Fleece Jacket");
+
+    // Short names the feature files use that match more than one product partially
+    private static final Map<String, Product> ALIASES = Map.of(
+            "t-shirt", BOLT_TSHIRT,
+            "tshirt", BOLT_TSHIRT);
+
+    private final int id;
+    private final String displayName;
+
+    Product(int id, String displayName) {
+        this.id = id;
+        this.displayName = displayName;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Find a product by full display name, alias or unique partial name (case-insensitive)
+     *
+     * @param name e.g. "Sauce Labs Backpack", "backpack" or "t-shirt"
+     * @return matching product
+     * @throws IllegalArgumentException if no product or more than one matches
+     */
+    public static Product fromName(String name) {
+        String wanted = name.trim().toLowerCase();
+        Product alias = ALIASES.get(wanted);
+        if (alias != null) {
+            return alias;
+        }
+        Product match = null;
+        for (Product product : values()) {
+            String candidate = product.displayName.toLowerCase();
+            if (candidate.equals(wanted)) {
+                return product;
+            }
+            if (candidate.contains(wanted)) {
+                if (match != null) {
+                    throw new IllegalArgumentException("Product name is ambiguous: " + name);
+                }
+                match = product;
+            }
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Unknown product: " + name);
+        }
+        return match;
+    }
+}
@@ -0,0 +1,140 @@
+package org.epam.pages;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product Item - Immutable row of the inventory or the cart
+ *
+ * Built by CartPage.getItems() and ProductsPage.getInventory() from one DOM read
+ * (READ_ITEMS_SCRIPT), so checking a whole list costs one round-trip.
+ *
+ * Quantity: the cart_quantity value for cart rows; for inventory rows 1 if the
+ * product is already in the cart (its button is "Remove"), otherwise 0.
+ *
+ * Usage:
+ * List<ProductItem> items = cartPage.getItems();
+ * BigDecimal total = items.stream().map(ProductItem::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+ */
+public final class ProductItem {
+
+    /**
+     * Reads every row matching arguments[0] (CSS selector) - SauceDemo item markup
+     */
+    static final String READ_ITEMS_SCRIPT =
+            "var rows = document.querySelectorAll(arguments[0]), items = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = rows[i];"
+            + "  var text = function (selector) { var el = row.querySelector(selector); return el ? el.textContent.trim() : ''; };"
+            + "  var button = row.querySelector('button');"
+            + "  items.push({name: text('.inventory_item_name'), description: text('.inventory_item_desc'),"
+            + "    price: text('.inventory_item_price'), quantity: text('.cart_quantity'),"
+            + "    buttonId: button ? button.id : ''});"
+            + "}"
+            + "return items;";
+
+    private final String name;
+    private final String description;
+    private final BigDecimal price;
+    private final int quantity;
+    private final String buttonId;
+
+    public ProductItem(String name, String description, BigDecimal price, int quantity, String buttonId) {
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.quantity = quantity;
+        this.buttonId = buttonId;
+    }
+
+    /**
+     * Convert the READ_ITEMS_SCRIPT result
+     * Missing fields read as empty text; entries that are not rows are skipped.
+     *
+     * @param raw script result (list of maps)
+     * @return immutable list of items in page order
+     */
+    static List<ProductItem> fromScriptResult(Object raw) {
+        List<ProductItem> items = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Object entry : (List<?>) raw) {
+                if (!(entry instanceof Map)) {
+                    continue;
+                }
+                Map<?, ?> row = (Map<?, ?>) entry;
+                String buttonId = field(row, "buttonId");
+                items.add(new ProductItem(
+                        field(row, "name"),
+                        field(row, "description"),
+                        parsePrice(field(row, "price")),
+                        parseQuantity(field(row, "quantity"), buttonId),
+                        buttonId));
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static String field(Map<?, ?> row, String key) {
+        Object value = row.get(key);
+        return value != null ? String.valueOf(value).trim() : "";
+    }
+
+    /**
+     * @param priceText e.g. "$29.99"
+     * @return 29.99, or null if the text holds no valid number
+     */
+    static BigDecimal parsePrice(String priceText) {
+        String digits = priceText.replaceAll("[^0-9.]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param quantityText cart_quantity text, empty on inventory rows
+     * @param buttonId row's button id
+     * @return the cart quantity; otherwise 1 if the button is "Remove", else 0
+     */
+    static int parseQuantity(String quantityText, String buttonId) {
+        if (quantityText.matches("\\d{1,9}")) {
+            return Integer.parseInt(quantityText);
+        }
+        return buttonId.startsWith("remove") ? 1 : 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * @return id of the row's button, e.g. "add-to-cart-sauce-labs-backpack" or "remove-sauce-labs-backpack"
+     */
+    public String getButtonId() {
+        return buttonId;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + price + " x" + quantity + ")";
+    }
+}
@@ -2,16 +2,28 @@ package org.epam.pages;
 
 import org.epam.exceptions.ElementNotFoundException;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Products Page Object
  *
  * Encapsulates all products page elements and actions
  * Extends BasePage for retry mechanism and common operations
+ *
+ * Products can be addressed by name (addToCart("Backpack", "Onesie")) through an
+ * index built from one DOM read per page load - no locator per product needed.
  */
 public class ProductsPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(ProductsPage.class);
@@ -29,6 +41,30 @@ public class ProductsPage extends BasePage {
     private final By cartBadge = By.className("shopping_cart_badge");
     private final By shoppingCartLink = By.className("shopping_cart_link");
 
+    // Clicks buttons by id, returns the ids that were not found
+    private static final String CLICK_BUTTONS_SCRIPT =
+            "var missing = [];"
+            + "arguments[0].forEach(function (id) {"
+            + "  var button = document.getElementById(id);"
+            + "  if (button) { button.click(); } else { missing.push(id); }"
+            + "});"
+            + "return missing;";
+
+    // Name index of the current page load - see getProductIndex()
+    private Map<String, ProductItem> productIndex;
+
+    /**
+     * Fixture: put products in the cart via browser storage and reload the inventory page
+     * The user must be logged in on the application.
+     *
+     * @param products products to put in the cart, in order
+     */
+    public void openWithItems(Product... products) {
+        logger.info("Opening inventory with {} seeded product(s)", products.length);
+        setLocalStorageItem(CartPage.CART_STORAGE_KEY, CartPage.toCartContents(products));
+        navigateToUrl(getAppUrl("inventory.html"));
+    }
+
     /**
      * Check if products page is displayed
      * @return true if products container is visible
@@ -47,6 +83,146 @@ public class ProductsPage extends BasePage {
     }
 
 
+    /**
+     * Get every product on the inventory page from one DOM read
+     *
+     * @return immutable list of products in page order
+     */
+    public List<ProductItem> getInventory() {
+        logger.debug("Reading inventory");
+        waitForElementToBeVisible(inventoryContainer);
+        List<ProductItem> items = ProductItem.fromScriptResult(
+                ((JavascriptExecutor) driver).executeScript(ProductItem.READ_ITEMS_SCRIPT, ".inventory_item"));
+        logger.info("Inventory: {} products", items.size());
+        return items;
+    }
+
+    /**
+     * Add products to the cart by name - one index lookup and one batch click
+     *
+     * Names match exactly, by unique partial name or by alias, case-insensitive
+     * ("Backpack", "T-Shirt" - see Product.fromName).
+     * Products already in the cart are left as they are.
+     *
+     * @param names product names
+     * @throws ElementNotFoundException if a name matches no product or a button is gone
+     */
+    public void addToCart(String... names) {
+        logger.info("Adding to cart: {}", Arrays.toString(names));
+        clickProductButtons("add-to-cart", names);
+    }
+
+    /**
+     * Remove products from the cart by name, in one batch click
+     *
+     * @param names product names
+     * @throws ElementNotFoundException if a name matches no product or a button is gone
+     */
+    public void removeFromCart(String... names) {
+        logger.info("Removing from cart: {}", Arrays.toString(names));
+        clickProductButtons("remove", names);
+    }
+
+    /**
+     * @param name product name (exact or unique partial, case-insensitive)
+     * @return product price from the index
+     */
+    public BigDecimal getProductPrice(String name) {
+        return findProduct(name).getPrice();
+    }
+
+    /**
+     * Product index of the current page load: lower-case name → product
+     * Built with one getInventory() DOM pass, dropped on navigation/page load and after
+     * batch clicks (the buttons change from add to remove)
+     *
+     * @return immutable name index
+     */
+    public Map<String, ProductItem> getProductIndex() {
+        if (productIndex == null) {
+            productIndex = indexByName(getInventory());
+            logger.debug("Product index built: {} products", productIndex.size());
+        }
+        return productIndex;
+    }
+
+    private ProductItem findProduct(String name) {
+        return findProduct(getProductIndex(), name);
+    }
+
+    /**
+     * @param items products of the inventory page
+     * @return immutable index: lower-case name → product, in page order
+     */
+    static Map<String, ProductItem> indexByName(List<ProductItem> items) {
+        Map<String, ProductItem> index = new LinkedHashMap<>();
+        for (ProductItem item : items) {
+            index.put(item.getName().toLowerCase(), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Look a product up in the index - the exact page name first, then Product.fromName
+     * (unique partial name or alias, e.g. "Backpack", "T-Shirt")
+     *
+     * @param index product index of the page
+     * @param name product name
+     * @return product on the page
+     * @throws ElementNotFoundException if the name matches no product, or the product is not on the page
+     */
+    static ProductItem findProduct(Map<String, ProductItem> index, String name) {
+        ProductItem exact = index.get(name.trim().toLowerCase());
+        if (exact != null) {
+            return exact;
+        }
+        Product product;
+        try {
+            product = Product.fromName(name);
+        } catch (IllegalArgumentException e) {
+            throw new ElementNotFoundException(e.getMessage());
+        }
+        ProductItem item = index.get(product.getDisplayName().toLowerCase());
+        if (item == null) {
+            throw new ElementNotFoundException("No product named '" + name + "' on the inventory page");
+        }
+        return item;
+    }
+
+    /**
+     * Click the add-to-cart or remove button of several products in one script
+     * Button ids follow the SauceDemo pattern: add-to-cart-<slug> / remove-<slug>
+     */
+    private void clickProductButtons(String action, String... names) {
+        List<String> buttonIds = new ArrayList<>();
+        for (String name : names) {
+            String buttonId = findProduct(name).getButtonId();
+            if (buttonId.startsWith(action)) {
+                buttonIds.add(buttonId);
+            } else {
+                logger.debug("'{}' already in the requested state ({}), skipping", name, buttonId);
+            }
+        }
+        if (buttonIds.isEmpty()) {
+            return;
+        }
+
+        List<?> missing = (List<?>) ((JavascriptExecutor) driver).executeScript(CLICK_BUTTONS_SCRIPT, buttonIds);
+        productIndex = null;
+        clearElementCache();
+        if (!missing.isEmpty()) {
+            logger.error("Product buttons not found: {}", missing);
+            throw new ElementNotFoundException("Product buttons not found: " + missing);
+        }
+        logger.info("Clicked {} product button(s)", buttonIds.size());
+    }
+
+    @Override
+    protected void clearElementCache() {
+        super.clearElementCache();
+        productIndex = null;
+    }
+
     /**
      * Add backpack product to cart
      * @throws ElementNotFoundException if button not found
@@ -98,6 +274,11 @@ public class ProductsPage extends BasePage {
      */
     public String getCartItemCount() {
         logger.debug("Getting cart item count");
+        // Badge is not rendered for an empty cart - a short probe covers the re-render after an add-to-cart click
+        if (!isOptionalElementDisplayed(cartBadge)) {
+            logger.info("Cart badge not present - cart is empty");
+            return "0";
+        }
         try {
             String count = getElementText(cartBadge);
             logger.info("Cart item count: {}", count);
@@ -2,24 +2,54 @@ package org.epam.utils;
 
 import io.qameta.allure.Step;
 import io.qameta.allure.Attachment;
+import org.epam.driver.TestContext;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+/**
+ * Allure helpers - attachments and steps for the current test
+ * The driver comes from the test's TestContext (no shared static driver), so parallel
+ * tests never screenshot each other's browser.
+ */
 public class AllureUtils {
 
-    private static WebDriver driver;
-
+    /**
+     * Kept for existing callers - the methods are static and need no instance
+     * Binds the driver for standalone scripts (see TestAllure.setDriver) unless a test
+     * context is already bound, in which case that test's browser is used as before.
+     * @param driver the script's driver
+     * @deprecated the driver comes from the current TestContext; standalone scripts
+     * use TestAllure.setDriver() / removeDriver()
+     */
+    @Deprecated
     public AllureUtils(WebDriver driver) {
-        this.driver = driver;
+        if (TestContext.currentOrNull() == null) {
+            TestAllure.setDriver(driver);
+        }
     }
 
     /**
-     * Capture screenshot for Allure reporting
+     * Capture screenshot of the current test's browser for Allure reporting
      * @return byte array of screenshot
      */
     @Attachment(value = "Screenshot", type = "image/png")
     public static byte[] captureScreenshot() {
+        return screenshotOf(TestContext.currentOrNull());
+    }
+
+    /**
+     * Capture screenshot of a given test's browser - usable from any thread
+     * @param context the test's context handle
+     * @return byte array of screenshot
+     */
+    @Attachment(value = "Screenshot", type = "image/png")
+    public static byte[] captureScreenshot(TestContext context) {
+        return screenshotOf(context);
+    }
+
+    private static byte[] screenshotOf(TestContext context) {
+        WebDriver driver = context != null ? context.getDriver() : null;
         if (driver != null) {
             return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
         }
@@ -50,8 +80,9 @@ public class AllureUtils {
      */
     @Step("Getting current URL")
     public static String getCurrentURL() {
-        if (driver != null) {
-            return driver.getCurrentUrl();
+        TestContext context = TestContext.currentOrNull();
+        if (context != null) {
+            return context.getDriver().getCurrentUrl();
         }
         return "";
     }
@@ -0,0 +1,207 @@
+package org.epam.utils;
+
+import org.epam.exceptions.CircuitOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit Breaker - Fails fast when a locator or the whole environment keeps failing
+ *
+ * Two circuits are tracked, both shared by all test threads:
+ * - Per key (usually a locator): opens after keyThreshold consecutive failed operations
+ * - Global (environment): opens after globalThreshold consecutive failed operations
+ *   across all keys with no success in between
+ *
+ * States:
+ * CLOSED    → operations run normally, failures are counted
+ * OPEN      → operations are rejected with CircuitOpenException for openDuration
+ * HALF-OPEN → after openDuration one trial operation is let through;
+ *             success closes the circuit, failure re-opens it, and an operation that
+ *             ends without an outcome (recordAbandoned) frees the trial for the next caller.
+ *             A trial that reports nothing within openDuration (at least
+ *             MIN_TRIAL_TIMEOUT_MILLIS) is treated as lost.
+ *
+ * checkClosed() returns a Permit that records which trials (key, environment) the caller
+ * was granted; recordAbandoned(permit) frees only those, so an operation that was never
+ * a trial cannot free another caller's trial in flight.
+ *
+ * Every operation that passed checkClosed() must end in exactly one of recordSuccess,
+ * recordFailure or recordAbandoned.
+ *
+ * Usage:
+ * CircuitBreaker.Permit permit = breaker.checkClosed(key);   // throws CircuitOpenException if open
+ * ... run operation ...
+ * breaker.recordSuccess(key);    // or breaker.recordFailure(key, e) / breaker.recordAbandoned(permit)
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final String GLOBAL_KEY = "<environment>";
+    // A zero open duration must not declare a trial lost the moment it starts
+    private static final long MIN_TRIAL_TIMEOUT_MILLIS = 100;
+
+    private final String name;
+    private final int keyThreshold;
+    private final int globalThreshold;
+    private final long openDurationMillis;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final Circuit global = new Circuit();
+
+    /**
+     * Constructor
+     *
+     * @param name breaker name (for logging)
+     * @param keyThreshold consecutive failures of one key that open its circuit
+     * @param globalThreshold consecutive failures of any key that open the global circuit
+     * @param openDuration how long an open circuit rejects operations
+     */
+    public CircuitBreaker(String name, int keyThreshold, int globalThreshold, Duration openDuration) {
+        this.name = name;
+        this.keyThreshold = Math.max(1, keyThreshold);
+        this.globalThreshold = Math.max(1, globalThreshold);
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    /**
+     * Reject the operation if its key or the environment circuit is open
+     *
+     * @param key circuit key (e.g. locator string)
+     * @return permit to pass to recordAbandoned if the operation ends without an outcome
+     * @throws CircuitOpenException if the circuit is open
+     */
+    public Permit checkClosed(String key) {
+        Permit permit = new Permit(key);
+        global.checkClosed(GLOBAL_KEY, globalThreshold, permit);
+        try {
+            circuits.computeIfAbsent(key, k -> new Circuit()).checkClosed(key, keyThreshold, permit);
+        } catch (CircuitOpenException e) {
+            // The operation never runs - give the environment trial to the next caller
+            global.releaseTrial(permit);
+            throw e;
+        }
+        return permit;
+    }
+
+    /**
+     * Record a successful operation - closes the key and global circuits
+     *
+     * @param key circuit key
+     */
+    public void recordSuccess(String key) {
+        global.recordSuccess();
+        Circuit circuit = circuits.get(key);
+        if (circuit != null) {
+            circuit.recordSuccess();
+        }
+    }
+
+    /**
+     * Record an operation that failed after all its retries
+     *
+     * @param key circuit key
+     * @param cause the final failure
+     */
+    public void recordFailure(String key, Throwable cause) {
+        global.recordFailure(GLOBAL_KEY, globalThreshold, cause);
+        circuits.computeIfAbsent(key, k -> new Circuit()).recordFailure(key, keyThreshold, cause);
+    }
+
+    /**
+     * Record an operation that ended without a verdict on the key or the environment
+     * (non-retryable error, aborted run) - frees the half-open trials this operation was
+     * granted, counts nothing
+     *
+     * @param permit permit returned by checkClosed for this operation
+     */
+    public void recordAbandoned(Permit permit) {
+        global.releaseTrial(permit);
+        Circuit circuit = circuits.get(permit.key);
+        if (circuit != null) {
+            circuit.releaseTrial(permit);
+        }
+    }
+
+    /**
+     * Close every circuit (e.g. at suite start)
+     */
+    public void reset() {
+        circuits.clear();
+        global.recordSuccess();
+    }
+
+    /**
+     * Admission of one operation - identifies the trials it holds, if any
+     */
+    public static final class Permit {
+        private final String key;
+
+        private Permit(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * State of one circuit - guarded by its own monitor
+     */
+    private class Circuit {
+        private int consecutiveFailures = 0;
+        private long openedAt = 0;
+        // Permit of the half-open trial in flight, null if none
+        private Permit trialOwner;
+        private long trialStartedAt = 0;
+        private Throwable lastFailure;
+
+        /**
+         * Admit the operation; grants it the half-open trial when one is due
+         */
+        synchronized void checkClosed(String key, int threshold, Permit permit) {
+            if (consecutiveFailures < threshold) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long openFor = now - openedAt;
+            // A trial that never reported back (lost thread, missed outcome) must not keep the circuit open
+            boolean trialLost = trialOwner != null
+                    && now - trialStartedAt >= Math.max(openDurationMillis, MIN_TRIAL_TIMEOUT_MILLIS);
+            if (openFor >= openDurationMillis && (trialOwner == null || trialLost)) {
+                // Half-open: let one trial through
+                trialOwner = permit;
+                trialStartedAt = now;
+                logger.info("[{}] Circuit half-open for '{}' - allowing one trial", name, key);
+                return;
+            }
+            throw new CircuitOpenException(String.format(
+                    "[%s] Circuit open for '%s' - %d consecutive failures, retry in %d ms",
+                    name, key, consecutiveFailures, Math.max(0, openDurationMillis - openFor)), lastFailure);
+        }
+
+        synchronized void releaseTrial(Permit permit) {
+            if (trialOwner == permit) {
+                trialOwner = null;
+            }
+        }
+
+        synchronized void recordSuccess() {
+            consecutiveFailures = 0;
+            trialOwner = null;
+            lastFailure = null;
+        }
+
+        synchronized void recordFailure(String key, int threshold, Throwable cause) {
+            consecutiveFailures++;
+            lastFailure = cause;
+            if (consecutiveFailures >= threshold) {
+                if (consecutiveFailures == threshold || trialOwner != null) {
+                    logger.error("[{}] Circuit OPEN for '{}' after {} consecutive failures", name, key, consecutiveFailures);
+                }
+                openedAt = System.currentTimeMillis();
+                trialOwner = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.epam.utils;
+
+import java.time.Duration;
+
+/**
+ * Deadline - Fixed point in time by which an action must finish
+ *
+ * A single Deadline is created per UI action (click, type, read...) and passed down to
+ * every nested wait and retry. Inner retries and waits only get the time that is left,
+ * so nesting can no longer multiply the total (3 retries x 3 retries x timeout).
+ *
+ * Usage:
+ * Deadline deadline = Deadline.after(Duration.ofSeconds(30));
+ * new WebDriverWait(driver, deadline.cap(Duration.ofSeconds(10)));
+ * if (deadline.isExpired()) { ... give up ... }
+ */
+public final class Deadline {
+
+    private static final Deadline UNBOUNDED = new Deadline(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long budgetMillis;
+    private final long expiresAtNanos;
+
+    private Deadline(long budgetMillis, long expiresAtNanos) {
+        this.budgetMillis = budgetMillis;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Create a deadline that expires after the given budget
+     *
+     * @param budget total time allowed
+     * @return new Deadline starting now
+     */
+    public static Deadline after(Duration budget) {
+        long budgetMillis = Math.max(0, budget.toMillis());
+        return new Deadline(budgetMillis, System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Deadline that never expires - keeps the legacy behaviour for callers without a budget
+     *
+     * @return shared unbounded Deadline
+     */
+    public static Deadline unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * @return true if this deadline never expires
+     */
+    public boolean isUnbounded() {
+        return this == UNBOUNDED;
+    }
+
+    /**
+     * @return true if no time is left
+     */
+    public boolean isExpired() {
+        return !isUnbounded() && System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /**
+     * @return milliseconds left (0 when expired, Long.MAX_VALUE when unbounded)
+     */
+    public long remainingMillis() {
+        if (isUnbounded()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, (expiresAtNanos - System.nanoTime()) / 1_000_000L);
+    }
+
+    /**
+     * Limit a timeout to the time left on this deadline
+     *
+     * @param timeout the timeout a wait would normally use
+     * @return the smaller of timeout and the remaining time
+     */
+    public Duration cap(Duration timeout) {
+        return Duration.ofMillis(Math.min(timeout.toMillis(), remainingMillis()));
+    }
+
+    /**
+     * @return the total budget this deadline was created with, in milliseconds
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    @Override
+    public String toString() {
+        return isUnbounded() ? "Deadline[unbounded]"
+                : "Deadline[budget=" + budgetMillis + "ms, remaining=" + remainingMillis() + "ms]";
+    }
+}
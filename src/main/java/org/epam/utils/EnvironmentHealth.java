@@ -0,0 +1,162 @@
+package org.epam.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Environment Health - Suite-wide breaker for a dead test environment
+ *
+ * While tripped, HealthGate skips every test and RetryUtils stops backing off, so a down
+ * environment costs seconds instead of a full run of retries.
+ *
+ * Tripped by:
+ * - the pre-flight probe (HTTP check + sample page render, see HealthGate) - stays open
+ *   for the rest of the JVM, the suite never had a working environment
+ * - the background HTTP probe after failureThreshold consecutive failures - the probe keeps
+ *   running and closes the breaker again on its next successful check, so a short outage
+ *   skips the tests that ran during it, not the rest of the suite
+ *
+ * Usage:
+ * String failure = EnvironmentHealth.checkHttp("https://www.saucedemo.com", 5000);   // null if healthy
+ * EnvironmentHealth.startMonitoring(url, 15, 5000, 2);
+ * if (!EnvironmentHealth.isHealthy()) { ... }
+ */
+public final class EnvironmentHealth {
+    private static final Logger logger = LoggerFactory.getLogger(EnvironmentHealth.class);
+
+    private static volatile String unhealthyReason;
+    // True while the breaker is open because of the background probe (recoverable)
+    private static volatile boolean trippedByProbe;
+    private static final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private static ScheduledExecutorService monitor;
+
+    private EnvironmentHealth() {
+    }
+
+    /**
+     * @return false once the breaker has tripped
+     */
+    public static boolean isHealthy() {
+        return unhealthyReason == null;
+    }
+
+    /**
+     * @return why the breaker tripped, or null while healthy
+     */
+    public static String getUnhealthyReason() {
+        return unhealthyReason;
+    }
+
+    /**
+     * Open the suite-wide breaker for the rest of the JVM - the first reason is kept
+     *
+     * @param reason what failed, shown in every skipped test
+     */
+    public static synchronized void trip(String reason) {
+        // A permanent trip replaces a recoverable probe trip
+        if (unhealthyReason == null || trippedByProbe) {
+            unhealthyReason = reason;
+            trippedByProbe = false;
+            logger.error("✗ ENVIRONMENT UNHEALTHY - skipping remaining tests: {}", reason);
+        }
+    }
+
+    private static synchronized void tripByProbe(String reason) {
+        if (unhealthyReason == null) {
+            unhealthyReason = reason;
+            trippedByProbe = true;
+            logger.error("✗ ENVIRONMENT UNHEALTHY - skipping tests until the health probe succeeds again: {}", reason);
+        }
+    }
+
+    private static synchronized void recoverFromProbe() {
+        if (trippedByProbe) {
+            logger.warn("✓ Environment healthy again - resuming tests (was: {})", unhealthyReason);
+            trippedByProbe = false;
+            unhealthyReason = null;
+        }
+    }
+
+    /**
+     * One HTTP GET of the URL
+     *
+     * @param url page to request
+     * @param timeoutMillis connect and read timeout
+     * @return null if the URL answered with a status below 400, otherwise the failure
+     */
+    public static String checkHttp(String url, int timeoutMillis) {
+        long startNanos = System.nanoTime();
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setInstanceFollowRedirects(true);
+            int status = connection.getResponseCode();
+            long millis = (System.nanoTime() - startNanos) / 1_000_000L;
+            if (status >= 400) {
+                return "HTTP " + status + " from " + url + " (" + millis + " ms)";
+            }
+            logger.debug("Health check OK: HTTP {} from {} in {} ms", status, url, millis);
+            return null;
+        } catch (IOException e) {
+            return e.getClass().getSimpleName() + " for " + url + ": " + e.getMessage();
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Probe the URL in the background; trip after failureThreshold consecutive failures
+     * and recover on the next successful probe
+     *
+     * @param url page to request
+     * @param intervalSeconds time between probes
+     * @param timeoutMillis timeout of one probe
+     * @param failureThreshold consecutive failures that trip the breaker
+     */
+    public static synchronized void startMonitoring(String url, int intervalSeconds, int timeoutMillis,
+                                                    int failureThreshold) {
+        if (monitor != null) {
+            return;
+        }
+        monitor = Executors.newSingleThreadScheduledExecutor(VirtualThreads.daemonThreads("health-probe"));
+        monitor.scheduleWithFixedDelay(() -> {
+            if (!isHealthy() && !trippedByProbe) {
+                return;
+            }
+            String failure = checkHttp(url, timeoutMillis);
+            if (failure == null) {
+                consecutiveFailures.set(0);
+                recoverFromProbe();
+                return;
+            }
+            int failures = consecutiveFailures.incrementAndGet();
+            logger.warn("Health check failed ({}/{}): {}", failures, failureThreshold, failure);
+            if (failures >= failureThreshold) {
+                tripByProbe(failure);
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Environment health probe every {} s: {}", intervalSeconds, url);
+    }
+
+    /**
+     * Stop the background probe
+     */
+    public static synchronized void stopMonitoring() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+            monitor = null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.epam.utils;
+
+/**
+ * Operation Name - Lazily built description of a retryable operation
+ *
+ * Holds a constant prefix and a subject (usually a By locator) and only concatenates
+ * them when the text is actually needed - i.e. when a retry or failure is logged.
+ * On the common path (first attempt succeeds, DEBUG off) no string is ever built.
+ *
+ * Usage:
+ * RetryUtils.retryOperation(op, OperationName.of("Click element: ", locator), policy, deadline, key);
+ */
+public final class OperationName {
+
+    private final String prefix;
+    private final Object subject;
+    private String text;
+
+    private OperationName(String prefix, Object subject) {
+        this.prefix = prefix;
+        this.subject = subject;
+    }
+
+    /**
+     * @param prefix constant description, e.g. "Click element: "
+     * @param subject what the operation acts on, e.g. a By locator
+     * @return descriptor that renders as prefix + subject on demand
+     */
+    public static OperationName of(String prefix, Object subject) {
+        return new OperationName(prefix, subject);
+    }
+
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = prefix + subject;
+        }
+        return text;
+    }
+}
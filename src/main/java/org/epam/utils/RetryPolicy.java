@@ -0,0 +1,235 @@
+package org.epam.utils;
+
+import org.epam.config.ConfigManager;
+import org.epam.exceptions.CircuitOpenException;
+import org.epam.exceptions.ConfigurationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry Policy - Describes how an operation is retried
+ *
+ * A policy decides:
+ * - how many attempts are made
+ * - how long to back off between attempts (millisecond granularity, exponential, with jitter)
+ * - which exceptions are worth retrying (retryOn) and which abort immediately (abortOn)
+ * - which circuit breaker (if any) guards the operation
+ *
+ * Predefined policies:
+ * - DEFAULT   : 3 attempts, 1s → 2s → 4s (capped at 8s) - the original RetryUtils behaviour
+ * - UI_ACTION : 3 attempts, 200ms → 400ms (capped at 2s), 25% jitter, UI circuit breaker
+ * - NO_RETRY  : single attempt
+ * All of them abort on ConfigurationException and CircuitOpenException.
+ *
+ * Usage:
+ * RetryPolicy policy = RetryPolicy.builder()
+ *     .maxAttempts(5)
+ *     .backoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(1))
+ *     .jitter(0.2)
+ *     .retryOn(StaleElementReferenceException.class)
+ *     .build();
+ * RetryUtils.retryOperation(() -> ..., "Reading price", policy);
+ */
+public final class RetryPolicy {
+
+    /**
+     * Shared breaker for UI actions - thresholds from config.properties
+     */
+    public static final CircuitBreaker UI_CIRCUIT_BREAKER = new CircuitBreaker(
+            "ui",
+            ConfigManager.getIntProperty("retry.circuit.locator.threshold", 5),
+            ConfigManager.getIntProperty("retry.circuit.environment.threshold", 10),
+            Duration.ofSeconds(ConfigManager.getIntProperty("retry.circuit.open.seconds", 30)));
+
+    public static final RetryPolicy DEFAULT = builder()
+            .maxAttempts(3)
+            .backoff(Duration.ofSeconds(1), 2.0, Duration.ofSeconds(8))
+            .build();
+
+    public static final RetryPolicy UI_ACTION = builder()
+            .maxAttempts(3)
+            .backoff(Duration.ofMillis(200), 2.0, Duration.ofSeconds(2))
+            .jitter(0.25)
+            .circuitBreaker(UI_CIRCUIT_BREAKER)
+            .build();
+
+    public static final RetryPolicy NO_RETRY = builder()
+            .maxAttempts(1)
+            .build();
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final double multiplier;
+    private final long maxBackoffMillis;
+    private final double jitter;
+    private final List<Class<? extends Throwable>> retryOn;
+    private final List<Class<? extends Throwable>> abortOn;
+    private final CircuitBreaker circuitBreaker;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffMillis = builder.initialBackoffMillis;
+        this.multiplier = builder.multiplier;
+        this.maxBackoffMillis = builder.maxBackoffMillis;
+        this.jitter = builder.jitter;
+        this.retryOn = Collections.unmodifiableList(new ArrayList<>(builder.retryOn));
+        this.abortOn = Collections.unmodifiableList(new ArrayList<>(builder.abortOn));
+        this.circuitBreaker = builder.circuitBreaker;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Copy of this policy with a different attempt count
+     *
+     * @param attempts maximum number of attempts
+     * @return this policy if unchanged, otherwise a modified copy
+     */
+    public RetryPolicy withMaxAttempts(int attempts) {
+        if (attempts == maxAttempts) {
+            return this;
+        }
+        return toBuilder().maxAttempts(attempts).build();
+    }
+
+    /**
+     * Decide whether a failure may be retried
+     *
+     * abortOn wins over retryOn; an empty retryOn list means "retry everything else"
+     *
+     * @param failure the exception thrown by the attempt
+     * @return true if another attempt is worthwhile
+     */
+    public boolean shouldRetry(Throwable failure) {
+        for (Class<? extends Throwable> type : abortOn) {
+            if (type.isInstance(failure)) {
+                return false;
+            }
+        }
+        if (retryOn.isEmpty()) {
+            return true;
+        }
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Backoff before the next attempt
+     *
+     * initial * multiplier^(attempt-1), capped at max, then spread by ±jitter
+     *
+     * @param attemptNumber the attempt that just failed (1-based)
+     * @return milliseconds to wait
+     */
+    public long backoffMillis(int attemptNumber) {
+        double base = initialBackoffMillis * Math.pow(multiplier, attemptNumber - 1);
+        long capped = (long) Math.min(base, maxBackoffMillis);
+        if (jitter <= 0 || capped == 0) {
+            return capped;
+        }
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(0, (long) (capped * factor));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return circuit breaker guarding this policy, or null if none
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.maxAttempts = maxAttempts;
+        builder.initialBackoffMillis = initialBackoffMillis;
+        builder.multiplier = multiplier;
+        builder.maxBackoffMillis = maxBackoffMillis;
+        builder.jitter = jitter;
+        builder.retryOn = new ArrayList<>(retryOn);
+        builder.abortOn = new ArrayList<>(abortOn);
+        builder.circuitBreaker = circuitBreaker;
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy[attempts=" + maxAttempts + ", backoff=" + initialBackoffMillis + "ms x" + multiplier
+                + " (max " + maxBackoffMillis + "ms), jitter=" + jitter
+                + ", circuitBreaker=" + (circuitBreaker != null) + "]";
+    }
+
+    /**
+     * Builder for RetryPolicy
+     * Defaults: 3 attempts, 1s x2 backoff capped at 8s, no jitter,
+     * abort on ConfigurationException and CircuitOpenException
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private long initialBackoffMillis = 1000;
+        private double multiplier = 2.0;
+        private long maxBackoffMillis = 8000;
+        private double jitter = 0;
+        private List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+        private List<Class<? extends Throwable>> abortOn = new ArrayList<>(
+                List.of(ConfigurationException.class, CircuitOpenException.class));
+        private CircuitBreaker circuitBreaker;
+
+        private Builder() {
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = Math.max(1, maxAttempts);
+            return this;
+        }
+
+        public Builder backoff(Duration initial, double multiplier, Duration max) {
+            this.initialBackoffMillis = initial.toMillis();
+            this.multiplier = Math.max(1.0, multiplier);
+            this.maxBackoffMillis = max.toMillis();
+            return this;
+        }
+
+        /**
+         * @param jitter fraction of the backoff to randomise, 0.0 - 1.0 (0.25 = ±25%)
+         */
+        public Builder jitter(double jitter) {
+            this.jitter = Math.max(0, Math.min(1.0, jitter));
+            return this;
+        }
+
+        @SafeVarargs
+        public final Builder retryOn(Class<? extends Throwable>... types) {
+            Collections.addAll(retryOn, types);
+            return this;
+        }
+
+        @SafeVarargs
+        public final Builder abortOn(Class<? extends Throwable>... types) {
+            Collections.addAll(abortOn, types);
+            return this;
+        }
+
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -2,19 +2,34 @@ package org.epam.utils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.epam.exceptions.CircuitOpenException;
 import org.epam.exceptions.FrameworkException;
+import org.epam.exceptions.TimeoutException;
+import org.epam.driver.TestContext;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Retry Utility - Implements retry mechanism with exponential backoff
  *
  * Features:
  * - Automatic retry with exponential backoff (1s → 2s → 4s)
- * - Detailed logging of each retry attempt
+ * - Detailed logging of each retry attempt - deferred until an attempt fails, so a
+ *   first-attempt success costs no formatting (DEBUG off) - see OperationName
  * - Logs to both file and console
  * - Tracks retry timing and performance
  * - Throws informative exceptions on final failure
+ * - Optional Deadline: one time budget shared by nested retries
+ * - Optional RetryPolicy: millisecond backoff with jitter, retry-on/abort-on
+ *   exception classes and a circuit breaker (see RetryPolicy, CircuitBreaker)
+ * - Stops retrying once EnvironmentHealth has tripped (environment down)
+ * - Async variant (retryOperationAsync): returns a CompletableFuture and schedules
+ *   retries instead of sleeping, so backoff does not hold a test thread
  *
  * Configuration:
  * - MAX_RETRIES: 3 attempts
@@ -40,10 +55,14 @@ import java.time.format.DateTimeFormatter;
 public class RetryUtils {
     private static final Logger logger = LoggerFactory.getLogger(RetryUtils.class);
 
-    // Configuration Constants
+    // Configuration Constants (backoff lives in RetryPolicy.DEFAULT: 1s → 2s → 4s, capped at 8s)
     private static final int DEFAULT_MAX_RETRIES = 3;
-    private static final int INITIAL_WAIT_SECONDS = 1;
-    private static final int BACKOFF_MULTIPLIER = 2;  // Exponential: 1s → 2s → 4s
+
+    // Async retries: backoff is a scheduled task, attempts run on a shared executor
+    private static final ScheduledExecutorService RETRY_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(VirtualThreads.daemonThreads("retry-scheduler"));
+    // Virtual threads on Java 21+, daemon cached pool otherwise
+    private static final ExecutorService ATTEMPT_EXECUTOR = VirtualThreads.newPerTaskExecutor("retry-attempt");
 
     // Date format for detailed logging
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
@@ -84,140 +103,494 @@ public class RetryUtils {
      * @throws FrameworkException if all retries fail
      */
     public static <T> T retryOperation(RetryableOperation<T> operation, String operationName, int maxRetries) {
-        long operationStartTime = System.currentTimeMillis();
-        String timestamp = LocalDateTime.now().format(dateFormatter);
+        return retryOperation(operation, operationName, maxRetries, Deadline.unbounded());
+    }
+
+    /**
+     * Retry an operation within a time budget shared with any nested retries
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName description of what we're trying
+     * @param maxRetries maximum number of attempts
+     * @param deadline time budget for the whole operation including nested retries
+     * @return result of the operation
+     * @throws TimeoutException if the budget is exhausted before the operation succeeds
+     * @throws FrameworkException if all retries fail
+     */
+    public static <T> T retryOperation(RetryableOperation<T> operation, String operationName, int maxRetries,
+                                       Deadline deadline) {
+        return retryOperation(operation, operationName, RetryPolicy.DEFAULT.withMaxAttempts(maxRetries), deadline, null);
+    }
+
+    /**
+     * Retry an operation according to a RetryPolicy
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName description of what we're trying
+     * @param policy attempts, backoff, jitter and exception classification
+     * @return result of the operation
+     * @throws FrameworkException if all retries fail
+     */
+    public static <T> T retryOperation(RetryableOperation<T> operation, String operationName, RetryPolicy policy) {
+        return retryOperation(operation, operationName, policy, Deadline.unbounded(), null);
+    }
+
+    /**
+     * Retry an operation according to a RetryPolicy, within a time budget,
+     * guarded by the policy's circuit breaker
+     *
+     * Flow:
+     * 1. If the circuit for circuitKey (or the environment) is open → CircuitOpenException, no attempt made
+     * 2. Run attempts; failures the policy classifies as non-retryable are rethrown immediately
+     * 3. Back off policy.backoffMillis(attempt) between attempts, never past the deadline
+     * 4. Success closes the circuit; final failure is recorded against it
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName description of what we're trying
+     * @param policy attempts, backoff, jitter and exception classification
+     * @param deadline time budget for the whole operation including nested retries
+     * @param circuitKey circuit breaker key (e.g. locator), or null to bypass the breaker
+     * @return result of the operation
+     * @throws CircuitOpenException if the circuit is open
+     * @throws TimeoutException if the budget is exhausted before the operation succeeds
+     * @throws FrameworkException if all retries fail
+     */
+    public static <T> T retryOperation(RetryableOperation<T> operation, String operationName, RetryPolicy policy,
+                                       Deadline deadline, String circuitKey) {
+        return execute(operation, operationName, policy, deadline, circuitKey);
+    }
+
+    /**
+     * Retry an operation described by a lazily built OperationName
+     *
+     * The description is only rendered when something is logged (a retry, a failure, or
+     * DEBUG output), so hot callers such as BasePage actions don't build a string per call.
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName lazy description of what we're trying
+     * @param policy attempts, backoff, jitter and exception classification
+     * @param deadline time budget for the whole operation including nested retries
+     * @param circuitKey circuit breaker key (e.g. locator), or null to bypass the breaker
+     * @return result of the operation
+     * @throws CircuitOpenException if the circuit is open
+     * @throws TimeoutException if the budget is exhausted before the operation succeeds
+     * @throws FrameworkException if all retries fail
+     */
+    public static <T> T retryOperation(RetryableOperation<T> operation, OperationName operationName, RetryPolicy policy,
+                                       Deadline deadline, String circuitKey) {
+        return execute(operation, operationName, policy, deadline, circuitKey);
+    }
+
+    /**
+     * Core retry loop
+     *
+     * Hot path: when the first attempt succeeds nothing is formatted or logged unless DEBUG
+     * is enabled - no timestamps, no banner, no description string. The detailed retry log
+     * starts with the first failure. Durations are measured with System.nanoTime.
+     *
+     * @param operationName String or OperationName - only rendered when logged
+     */
+    private static <T> T execute(RetryableOperation<T> operation, Object operationName, RetryPolicy policy,
+                                 Deadline deadline, String circuitKey) {
+        CircuitBreaker breaker = circuitKey != null ? policy.getCircuitBreaker() : null;
+        CircuitBreaker.Permit permit = breaker != null ? breaker.checkClosed(circuitKey) : null;
+
+        // Every exit must settle the circuit: success, failure, or abandoned (aborted, interrupted, Error)
+        boolean settled = false;
+        try {
+            int maxRetries = policy.getMaxAttempts();
+            long operationStartNanos = System.nanoTime();
+
+            Exception lastException = null;
+            int attemptsMade = 0;
+            boolean budgetExhausted = false;
+            boolean aborted = false;
+
+            // Try up to maxRetries times
+            for (int attempt = 1; attempt <= maxRetries; attempt++) {
+                if (attempt > 1 && deadline.isExpired()) {
+                    logger.warn("└─ ✗ TIME BUDGET EXHAUSTED before attempt {}/{}", attempt, maxRetries);
+                    budgetExhausted = true;
+                    break;
+                }
+                attemptsMade = attempt;
+                long attemptStartNanos = System.nanoTime();
+
+                try {
+                    if (attempt > 1) {
+                        logger.info("┌─ ATTEMPT {}/{} [{}]", attempt, maxRetries, timestamp());
+                    }
+
+                    // Execute the operation
+                    T result = operation.execute();
+
+                    // Success!
+                    if (breaker != null) {
+                        breaker.recordSuccess(circuitKey);
+                        settled = true;
+                    }
+
+                    if (attempt == 1) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("✓ {} succeeded on first attempt in {} ms", operationName,
+                                    elapsedMillis(attemptStartNanos));
+                        }
+                        return result;
+                    }
+
+                    logger.info("├─ ✓ SUCCESS on attempt {}/{}", attempt, maxRetries);
+                    logger.info("├─ Duration: {} ms", elapsedMillis(attemptStartNanos));
+                    logger.info("└─ Result: Operation succeeded");
+
+                    logger.info("═══════════════════════════════════════════════════════════════");
+                    logger.info("✓ OPERATION SUCCESSFUL");
+                    logger.info("├─ Operation: {}", operationName);
+                    logger.info("├─ Succeeded on attempt: {}/{}", attempt, maxRetries);
+                    logger.info("├─ Total duration: {} ms", elapsedMillis(operationStartNanos));
+                    logger.info("└─ Timestamp: {}", timestamp());
+                    logger.info("═══════════════════════════════════════════════════════════════");
+
+                    return result;
+
+                } catch (Exception e) {
+                    // Capture the exception
+                    lastException = e;
+                    long attemptDuration = elapsedMillis(attemptStartNanos);
+                    String exceptionType = e.getClass().getSimpleName();
+
+                    if (attempt == 1) {
+                        logRetryStart(operationName, maxRetries, deadline);
+                    }
+
+                    // Log failure details
+                    recordFailedAttempt();
+                    logger.warn("├─ ✗ FAILED on attempt {}/{}", attempt, maxRetries);
+                    logger.warn("├─ Exception Type: {}", exceptionType);
+                    logger.warn("├─ Exception Message: {}", e.getMessage());
+                    logger.warn("├─ Duration: {} ms", attemptDuration);
+                    logger.debug("├─ Stack Trace: ", e);
+
+                    // Failures that can never succeed are not retried
+                    if (!policy.shouldRetry(e)) {
+                        logger.error("└─ ✗ NON-RETRYABLE FAILURE ({}) - aborting", exceptionType);
+                        aborted = true;
+                        break;
+                    }
+
+                    // Retrying against a dead environment only delays the failure
+                    if (!EnvironmentHealth.isHealthy()) {
+                        logger.error("└─ ✗ ENVIRONMENT UNHEALTHY - aborting: {}", EnvironmentHealth.getUnhealthyReason());
+                        aborted = true;
+                        break;
+                    }
+
+                    // If not the last attempt, calculate wait time and log
+                    if (attempt < maxRetries) {
+                        long waitMillis = policy.backoffMillis(attempt);
+
+                        // Don't sleep past the deadline - the next attempt would never run
+                        if (deadline.remainingMillis() <= waitMillis) {
+                            logger.warn("└─ ✗ TIME BUDGET EXHAUSTED - {} ms left, backoff needs {} ms",
+                                    deadline.remainingMillis(), waitMillis);
+                            budgetExhausted = true;
+                            break;
+                        }
+
+                        logger.info("├─ Waiting {} ms before retry...", waitMillis);
+
+                        // Wait before retrying
+                        waitBeforeRetry(waitMillis);
+
+                        logger.info("├─ Retry resuming after {} ms wait", waitMillis);
 
+                    } else {
+                        // Last attempt failed
+                        logger.error("└─ ✗ FINAL ATTEMPT FAILED - No more retries");
+                    }
+                }
+            }
+
+            // Non-retryable failures propagate unchanged (e.g. ConfigurationException)
+            // No verdict for the circuit - the finally block frees a half-open trial
+            if (aborted) {
+                if (lastException instanceof RuntimeException) {
+                    throw (RuntimeException) lastException;
+                }
+                throw new FrameworkException("Non-retryable failure: " + operationName + ". Error: "
+                        + lastException.getMessage(), lastException);
+            }
+
+            if (breaker != null) {
+                breaker.recordFailure(circuitKey, lastException);
+                settled = true;
+            }
+
+            // All attempts failed - throw exception with comprehensive details
+            long totalDuration = elapsedMillis(operationStartNanos);
+            if (budgetExhausted) {
+                String budgetMessage = String.format(
+                    "Time budget of %d ms exhausted after %d attempt(s) (total duration: %d ms): %s. Last error: %s",
+                    deadline.getBudgetMillis(),
+                    attemptsMade,
+                    totalDuration,
+                    operationName,
+                    lastException != null ? lastException.getMessage() : "Unknown error"
+                );
+                logger.error("✗ OPERATION ABORTED - {}", budgetMessage);
+                throw new TimeoutException(budgetMessage, lastException);
+            }
+
+            String errorMessage = String.format(
+                "Operation failed after %d attempts (total duration: %d ms): %s. Last error: %s",
+                maxRetries,
+                totalDuration,
+                operationName,
+                lastException != null ? lastException.getMessage() : "Unknown error"
+            );
+
+            logger.error("═══════════════════════════════════════════════════════════════");
+            logger.error("✗ OPERATION FAILED");
+            logger.error("├─ Operation: {}", operationName);
+            logger.error("├─ All {} attempts failed", maxRetries);
+            logger.error("├─ Last Exception Type: {}", lastException != null ? lastException.getClass().getSimpleName() : "N/A");
+            logger.error("├─ Last Exception Message: {}", lastException != null ? lastException.getMessage() : "N/A");
+            logger.error("├─ Total duration: {} ms", totalDuration);
+            logger.error("├─ Timestamp: {}", timestamp());
+            logger.error("└─ Throwing FrameworkException with context");
+            logger.error("═══════════════════════════════════════════════════════════════");
+
+            throw new FrameworkException(errorMessage, lastException);
+        } finally {
+            if (breaker != null && !settled) {
+                breaker.recordAbandoned(permit);
+            }
+        }
+    }
+
+    /**
+     * Log the retry banner - deferred until the first attempt has failed
+     */
+    private static void logRetryStart(Object operationName, int maxRetries, Deadline deadline) {
         logger.info("═══════════════════════════════════════════════════════════════");
-        logger.info("RETRY OPERATION START [{}]", timestamp);
+        logger.info("RETRY OPERATION START [{}]", timestamp());
         logger.info("Operation: {}", operationName);
         logger.info("Max Retries: {}", maxRetries);
         logger.info("Thread: {}", Thread.currentThread().getName());
+        if (!deadline.isUnbounded()) {
+            logger.info("Time budget left: {} ms", deadline.remainingMillis());
+        }
         logger.info("───────────────────────────────────────────────────────────────");
+        logger.info("┌─ ATTEMPT 1/{}", maxRetries);
+    }
 
-        Exception lastException = null;
+    private static String timestamp() {
+        return LocalDateTime.now().format(dateFormatter);
+    }
 
-        // Try up to maxRetries times
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            long attemptStartTime = System.currentTimeMillis();
-            String attemptTimestamp = LocalDateTime.now().format(dateFormatter);
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
 
-            try {
-                // Log attempt start
-                logger.info("┌─ ATTEMPT {}/{} [{}]", attempt, maxRetries, attemptTimestamp);
-                logger.debug("  │ Operation: {}", operationName);
+    /**
+     * Retry an operation asynchronously - backoff does not block any thread
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName description of what we're trying
+     * @param policy attempts, backoff, jitter and exception classification
+     * @return future completed with the result, or exceptionally on final failure
+     */
+    public static <T> CompletableFuture<T> retryOperationAsync(RetryableOperation<T> operation, String operationName,
+                                                               RetryPolicy policy) {
+        return retryOperationAsync(operation, operationName, policy, Deadline.unbounded(), null);
+    }
+
+    /**
+     * Retry an operation asynchronously within a time budget, guarded by the policy's circuit breaker
+     *
+     * Attempts run on a shared attempt executor (virtual threads when the JVM provides them,
+     * otherwise a cached daemon pool). Between attempts nothing sleeps: the next attempt is
+     * scheduled on a shared ScheduledExecutorService after policy.backoffMillis(attempt).
+     *
+     * The operation runs on a pool thread with the caller's TestContext bound, so
+     * DriverManager.getDriver() and page objects created inside it see the caller's test.
+     *
+     * Failure outcomes (future completes exceptionally with):
+     * - CircuitOpenException  : circuit already open, no attempt made
+     * - the original exception: policy classifies it as non-retryable, or it is an Error
+     * - TimeoutException      : deadline reached before an attempt succeeded
+     * - FrameworkException    : all attempts failed
+     *
+     * @param <T> return type of the operation
+     * @param operation the lambda/function to execute and retry
+     * @param operationName description of what we're trying
+     * @param policy attempts, backoff, jitter and exception classification
+     * @param deadline time budget for all attempts
+     * @param circuitKey circuit breaker key (e.g. locator), or null to bypass the breaker
+     * @return future completed with the result, or exceptionally on final failure
+     */
+    public static <T> CompletableFuture<T> retryOperationAsync(RetryableOperation<T> operation, String operationName,
+                                                               RetryPolicy policy, Deadline deadline, String circuitKey) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CircuitBreaker breaker = circuitKey != null ? policy.getCircuitBreaker() : null;
+        CircuitBreaker.Permit permit;
+        try {
+            permit = breaker != null ? breaker.checkClosed(circuitKey) : null;
+        } catch (CircuitOpenException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
 
-                // Execute the operation
-                T result = operation.execute();
+        logger.info("ASYNC RETRY OPERATION START: {} (max attempts: {})", operationName, policy.getMaxAttempts());
+        AsyncAttempt<T> attempt = new AsyncAttempt<>(operation, operationName, policy, deadline, breaker, circuitKey,
+                permit, result, System.nanoTime(), TestContext.currentOrNull());
+        attempt.submit(1);
+        return result;
+    }
 
-                // Success!
-                long attemptDuration = System.currentTimeMillis() - attemptStartTime;
+    /**
+     * State of one asynchronous retry operation
+     */
+    private static final class AsyncAttempt<T> {
+        private final RetryableOperation<T> operation;
+        private final String operationName;
+        private final RetryPolicy policy;
+        private final Deadline deadline;
+        private final CircuitBreaker breaker;
+        private final String circuitKey;
+        // Admission by the breaker - identifies a half-open trial this operation holds
+        private final CircuitBreaker.Permit permit;
+        private final CompletableFuture<T> result;
+        private final long startNanos;
+        // Caller's test context - bound on the pool thread while an attempt runs
+        private final TestContext context;
 
-                logger.info("├─ ✓ SUCCESS on attempt {}/{}", attempt, maxRetries);
-                logger.info("├─ Duration: {} ms", attemptDuration);
-                logger.info("└─ Result: Operation succeeded");
+        private AsyncAttempt(RetryableOperation<T> operation, String operationName, RetryPolicy policy,
+                             Deadline deadline, CircuitBreaker breaker, String circuitKey,
+                             CircuitBreaker.Permit permit, CompletableFuture<T> result, long startNanos,
+                             TestContext context) {
+            this.operation = operation;
+            this.operationName = operationName;
+            this.policy = policy;
+            this.deadline = deadline;
+            this.breaker = breaker;
+            this.circuitKey = circuitKey;
+            this.permit = permit;
+            this.result = result;
+            this.startNanos = startNanos;
+            this.context = context;
+        }
 
-                long totalDuration = System.currentTimeMillis() - operationStartTime;
-                logger.info("═══════════════════════════════════════════════════════════════");
-                logger.info("✓ OPERATION SUCCESSFUL");
-                logger.info("├─ Operation: {}", operationName);
-                logger.info("├─ Succeeded on attempt: {}/{}", attempt, maxRetries);
-                logger.info("├─ Total duration: {} ms", totalDuration);
-                logger.info("└─ Timestamp: {}", LocalDateTime.now().format(dateFormatter));
-                logger.info("═══════════════════════════════════════════════════════════════");
+        private void submit(int attempt) {
+            Runnable task = () -> run(attempt);
+            ATTEMPT_EXECUTOR.execute(context != null ? context.wrap(task) : task);
+        }
 
-                return result;
+        private void run(int attempt) {
+            if (result.isDone()) {
+                // Cancelled by the caller - stop retrying, free a half-open trial
+                if (breaker != null) {
+                    breaker.recordAbandoned(permit);
+                }
+                return;
+            }
 
+            try {
+                T value = operation.execute();
+                if (breaker != null) {
+                    breaker.recordSuccess(circuitKey);
+                }
+                logger.info("✓ ASYNC OPERATION SUCCESSFUL on attempt {}/{} ({} ms): {}", attempt,
+                        policy.getMaxAttempts(), elapsedMillis(startNanos), operationName);
+                result.complete(value);
             } catch (Exception e) {
-                // Capture the exception
-                lastException = e;
-                long attemptDuration = System.currentTimeMillis() - attemptStartTime;
-                String exceptionType = e.getClass().getSimpleName();
-
-                // Log failure details
-                logger.warn("├─ ✗ FAILED on attempt {}/{}", attempt, maxRetries);
-                logger.warn("├─ Exception Type: {}", exceptionType);
-                logger.warn("├─ Exception Message: {}", e.getMessage());
-                logger.warn("├─ Duration: {} ms", attemptDuration);
-                logger.debug("├─ Stack Trace: ", e);
-
-                // If not the last attempt, calculate wait time and log
-                if (attempt < maxRetries) {
-                    int waitSeconds = calculateWaitTime(attempt);
-                    logger.info("├─ Waiting {} second(s) before retry...", waitSeconds);
-                    logger.info("└─ Retry scheduled at: {}",
-                            LocalDateTime.now().plusSeconds(waitSeconds).format(dateFormatter));
-
-                    // Wait before retrying
-                    waitBeforeRetry(waitSeconds);
-
-                    logger.info("├─ Retry resuming after {} second(s) wait", waitSeconds);
-
-                } else {
-                    // Last attempt failed
-                    logger.error("└─ ✗ FINAL ATTEMPT FAILED - No more retries");
+                recordFailedAttempt();
+                logger.warn("✗ Async attempt {}/{} failed: {} | {}: {}", attempt, policy.getMaxAttempts(),
+                        operationName, e.getClass().getSimpleName(), e.getMessage());
+
+                if (!policy.shouldRetry(e)) {
+                    logger.error("✗ NON-RETRYABLE FAILURE ({}) - aborting: {}", e.getClass().getSimpleName(), operationName);
+                    abandon(e);
+                    return;
+                }
+                if (!EnvironmentHealth.isHealthy()) {
+                    logger.error("✗ ENVIRONMENT UNHEALTHY - aborting: {}", operationName);
+                    abandon(e);
+                    return;
                 }
+
+                long totalDuration = elapsedMillis(startNanos);
+                if (attempt >= policy.getMaxAttempts()) {
+                    fail(new FrameworkException(String.format(
+                            "Operation failed after %d attempts (total duration: %d ms): %s. Last error: %s",
+                            attempt, totalDuration, operationName, e.getMessage()), e));
+                    return;
+                }
+
+                long waitMillis = policy.backoffMillis(attempt);
+                if (deadline.remainingMillis() <= waitMillis) {
+                    fail(new TimeoutException(String.format(
+                            "Time budget of %d ms exhausted after %d attempt(s) (total duration: %d ms): %s. Last error: %s",
+                            deadline.getBudgetMillis(), attempt, totalDuration, operationName, e.getMessage()), e));
+                    return;
+                }
+
+                logger.debug("Scheduling async attempt {} in {} ms: {}", attempt + 1, waitMillis, operationName);
+                RETRY_SCHEDULER.schedule(() -> submit(attempt + 1),
+                        waitMillis, TimeUnit.MILLISECONDS);
+            } catch (Error e) {
+                // Assertion or VM error - never retried, but the caller's join() must not hang
+                logger.error("✗ ASYNC OPERATION ERROR ({}) - aborting: {}", e.getClass().getSimpleName(), operationName);
+                abandon(e);
             }
         }
 
-        // All attempts failed - throw exception with comprehensive details
-        long totalDuration = System.currentTimeMillis() - operationStartTime;
-        String errorMessage = String.format(
-            "Operation failed after %d attempts (total duration: %d ms): %s. Last error: %s",
-            maxRetries,
-            totalDuration,
-            operationName,
-            lastException != null ? lastException.getMessage() : "Unknown error"
-        );
-
-        logger.error("═══════════════════════════════════════════════════════════════");
-        logger.error("✗ OPERATION FAILED");
-        logger.error("├─ Operation: {}", operationName);
-        logger.error("├─ All {} attempts failed", maxRetries);
-        logger.error("├─ Last Exception Type: {}", lastException != null ? lastException.getClass().getSimpleName() : "N/A");
-        logger.error("├─ Last Exception Message: {}", lastException != null ? lastException.getMessage() : "N/A");
-        logger.error("├─ Total duration: {} ms", totalDuration);
-        logger.error("├─ Timestamp: {}", LocalDateTime.now().format(dateFormatter));
-        logger.error("└─ Throwing FrameworkException with context");
-        logger.error("═══════════════════════════════════════════════════════════════");
-
-        throw new FrameworkException(errorMessage, lastException);
+        /**
+         * End without a verdict for the circuit (non-retryable error, unhealthy environment, Error)
+         */
+        private void abandon(Throwable cause) {
+            if (breaker != null) {
+                breaker.recordAbandoned(permit);
+            }
+            result.completeExceptionally(cause);
+        }
+
+        private void fail(FrameworkException failure) {
+            if (breaker != null) {
+                breaker.recordFailure(circuitKey, failure.getCause());
+            }
+            logger.error("✗ ASYNC OPERATION FAILED - {}", failure.getMessage());
+            result.completeExceptionally(failure);
+        }
     }
 
     /**
-     * Calculate wait time between retries using EXPONENTIAL BACKOFF
-     *
-     * Backoff Strategy:
-     * Attempt 1 fails → Wait 1 second (2^0 = 1)
-     * Attempt 2 fails → Wait 2 seconds (2^1 = 2)
-     * Attempt 3 fails → Wait 4 seconds (2^2 = 4)
-     * Attempt 4+ fails → Wait 4 seconds (capped)
-     *
-     * @param attemptNumber the current attempt number (1-based)
-     * @return seconds to wait before next retry
+     * Count a failed attempt in the current test's metrics ("retry.failed.attempts")
      */
-    private static int calculateWaitTime(int attemptNumber) {
-        // Exponential backoff: 1s * (2 ^ attemptNumber-1)
-        // Attempt 1 → wait 1s, Attempt 2 → wait 2s, Attempt 3 → wait 4s
-        int waitTime = INITIAL_WAIT_SECONDS * (int) Math.pow(BACKOFF_MULTIPLIER, attemptNumber - 1);
-
-        // Cap at maximum reasonable wait (e.g., 8 seconds max)
-        int maxWait = 8;
-        return Math.min(waitTime, maxWait);
+    private static void recordFailedAttempt() {
+        TestContext context = TestContext.currentOrNull();
+        if (context != null) {
+            context.incrementMetric("retry.failed.attempts");
+        }
     }
 
     /**
-     * Pause execution for specified seconds
+     * Pause execution for specified milliseconds
      *
-     * @param seconds number of seconds to wait
+     * @param millis number of milliseconds to wait
      */
-    private static void waitBeforeRetry(int seconds) {
+    private static void waitBeforeRetry(long millis) {
         try {
-            long startTime = System.currentTimeMillis();
-            Thread.sleep(seconds * 1000L);
-            long actualDuration = System.currentTimeMillis() - startTime;
+            long startNanos = System.nanoTime();
+            Thread.sleep(millis);
+            long actualDuration = elapsedMillis(startNanos);
 
-            logger.debug("Retry wait completed. Expected: {} seconds, Actual: {} ms",
-                    seconds, actualDuration);
+            logger.debug("Retry wait completed. Expected: {} ms, Actual: {} ms",
+                    millis, actualDuration);
 
         } catch (InterruptedException e) {
             logger.warn("Sleep interrupted during retry wait: {}", e.getMessage());
@@ -2,26 +2,65 @@ package org.epam.utils;
 
 import io.qameta.allure.Step;
 import io.qameta.allure.Attachment;
+import org.epam.driver.TestContext;
 import org.openqa.selenium.*;
 
+/**
+ * Allure screenshot helpers for the browser of the current TestContext
+ * Tests started by DriverManager need no setup; standalone scripts bind their own
+ * driver with setDriver() and release it with removeDriver(). removeDriver() restores
+ * whatever context was bound before setDriver(), so a test's own context survives.
+ */
 public class TestAllure {
 
-    private static ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    // Context bound by setDriver() on this thread, and the binding it displaced
+    private static final ThreadLocal<TestContext> BOUND = new ThreadLocal<>();
+    private static final ThreadLocal<TestContext> DISPLACED = new ThreadLocal<>();
 
     public TestAllure(WebDriver driver) {
         setDriver(driver);
     }
 
+    /**
+     * Bind a driver that was not created by DriverManager to the current thread
+     * The previous binding (e.g. the running test's context) is restored by removeDriver()
+     * @param driver the script's driver
+     */
     public static void setDriver(WebDriver driver) {
-        driverThreadLocal.set(driver);
+        TestContext context = TestContext.forDriver("TestAllure", driver);
+        if (BOUND.get() == null) {
+            DISPLACED.set(TestContext.currentOrNull());
+        }
+        BOUND.set(context);
+        TestContext.bind(context);
     }
 
     public static WebDriver getDriver() {
-        return driverThreadLocal.get();
+        TestContext context = TestContext.currentOrNull();
+        return context != null ? context.getDriver() : null;
     }
 
+    /**
+     * Undo setDriver(): restore the binding it displaced
+     * Does nothing if setDriver() was not called on this thread, and leaves the binding
+     * alone if something else has been bound since
+     */
     public static void removeDriver() {
-        driverThreadLocal.remove();
+        TestContext context = BOUND.get();
+        if (context == null) {
+            return;
+        }
+        TestContext previous = DISPLACED.get();
+        BOUND.remove();
+        DISPLACED.remove();
+        if (TestContext.currentOrNull() != context) {
+            return;
+        }
+        if (previous != null) {
+            TestContext.bind(previous);
+        } else {
+            TestContext.unbind();
+        }
     }
 
     @Attachment(value = "Full Page Screenshot", type = "image/png")
@@ -26,6 +26,7 @@ public class TestUtils {
             destFile.getParentFile().mkdirs(); // Create directories if they don't exist
 
             FileUtils.copyFile(sourceFile, destFile);
+            DriverManager.getContext().addArtifact(filePath);
             System.out.println("Screenshot saved: " + filePath);
 
             return filePath;
@@ -0,0 +1,76 @@
+package org.epam.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Virtual Threads - Executors for blocking framework work (driver HTTP calls, browser launches)
+ *
+ * On Java 21+ tasks run on virtual threads, so a task blocked on the driver or a sleep does
+ * not hold a carrier thread. On Java 17 the same calls return a cached pool of daemon
+ * platform threads. The JDK factory is looked up reflectively so the framework still
+ * compiles with release 17.
+ *
+ * Usage:
+ * ExecutorService executor = VirtualThreads.newPerTaskExecutor("driver-launch");
+ * executor.submit(() -> BrowserFactory.createDriver(type));
+ */
+public final class VirtualThreads {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+    private VirtualThreads() {
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the running JVM provides virtual threads (Java 21+)
+     */
+    public static boolean isAvailable() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * One new thread per task: virtual on Java 21+, otherwise a cached daemon pool
+     *
+     * @param prefix name prefix of the fallback platform threads
+     * @return executor; shut it down when it is no longer needed
+     */
+    public static ExecutorService newPerTaskExecutor(String prefix) {
+        if (VIRTUAL_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.debug("Virtual thread executor could not be created: {}", e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreads(prefix));
+    }
+
+    /**
+     * @param prefix thread name prefix, numbered from 1
+     * @return factory for daemon platform threads
+     */
+    public static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
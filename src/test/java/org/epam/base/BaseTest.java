@@ -3,6 +3,7 @@ package org.epam.base;
 import org.epam.config.ConfigManager;
 import org.epam.driver.DriverManager;
 import org.epam.exceptions.FrameworkException;
+import org.epam.utils.RetryPolicy;
 import org.epam.utils.TestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +12,8 @@ import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.lang.reflect.Method;
+
 public class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
@@ -19,17 +22,25 @@ public class BaseTest {
         System.out.println("=== Test Suite Started ===");
         System.out.println("Base URL: " + ConfigManager.getBaseUrl());
         System.out.println("Browser: " + ConfigManager.getBrowser());
+        System.out.println("Test threads: " + ConfigManager.getTestConcurrency()
+                + ", browsers: " + ConfigManager.getBrowserConcurrency());
         System.out.println("========================");
+
+        // Circuits opened by an earlier suite in this JVM must not fail-fast this one
+        RetryPolicy.UI_CIRCUIT_BREAKER.reset();
+
+        // Launch pooled browsers in the background while TestNG schedules tests
+        DriverManager.warmUpPool();
     }
 
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
         try {
             TestUtils.logTestStep("Setting up test environment");
             logger.info("Initializing WebDriver for test");
 
             try {
-                DriverManager.createDriver();
+                DriverManager.createDriver(method.getDeclaringClass().getSimpleName() + "." + method.getName());
                 logger.info("WebDriver created successfully");
             } catch (FrameworkException e) {
                 logger.error("Framework exception during driver creation: {}", e.getMessage());
@@ -79,6 +90,13 @@ public class BaseTest {
     @AfterSuite
     public void cleanBrowserProcess(){
 
+        try {
+            // Quit pooled browsers gracefully before force-killing leftovers
+            DriverManager.shutdownPool();
+        } catch (Exception e) {
+            logger.error("Error while shutting down driver pool: {}", e.getMessage(), e);
+        }
+
         try {
             // Kill ChromeDriver and Chrome
             Runtime.getRuntime().exec("taskkill /F /IM chromedriver.exe");
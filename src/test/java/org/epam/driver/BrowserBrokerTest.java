@@ -0,0 +1,233 @@
+package org.epam.driver;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for BrowserBroker - the lease protocol over a real socket
+ *
+ * The broker runs on an ephemeral port against a fake driver service (JDK HttpServer)
+ * that records the requests it gets, so no driver binary or browser is needed.
+ */
+public class BrowserBrokerTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    @Test(description = "STATUS reports the cap, slots in use and queued leases")
+    public void testStatusOfIdleBroker() throws Exception {
+        try (Fixture broker = new Fixture(2); Connection client = broker.connect()) {
+            Assert.assertEquals(client.request("STATUS"), "STATUS 2 0 0");
+        }
+    }
+
+    @Test(description = "LEASE grants the service URL and RELEASE returns the slot")
+    public void testLeaseAndRelease() throws Exception {
+        try (Fixture broker = new Fixture(2); Connection fork = broker.connect()) {
+            Assert.assertEquals(fork.request("LEASE chrome"), "GRANTED " + broker.serviceUrl);
+            Assert.assertEquals(fork.request("STATUS"), "STATUS 2 1 0");
+
+            fork.send("RELEASE");
+            Assert.assertEquals(fork.request("STATUS"), "STATUS 2 0 0");
+        }
+    }
+
+    @Test(description = "A second LEASE on the same connection is refused")
+    public void testOneLeasePerConnection() throws Exception {
+        try (Fixture broker = new Fixture(2); Connection fork = broker.connect()) {
+            fork.request("LEASE chrome");
+            Assert.assertTrue(fork.request("LEASE chrome").startsWith("ERROR"));
+            Assert.assertEquals(fork.request("STATUS"), "STATUS 2 1 0");
+        }
+    }
+
+    @Test(description = "Leases beyond the cap queue and are granted when a slot comes back")
+    public void testLeaseQueuesAtCap() throws Exception {
+        try (Fixture broker = new Fixture(1);
+             Connection first = broker.connect();
+             Connection second = broker.connect();
+             Connection observer = broker.connect()) {
+            first.request("LEASE chrome");
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> second.requestUnchecked("LEASE chrome"));
+            broker.awaitStatus(observer, "STATUS 1 1 1");
+
+            first.send("RELEASE");
+
+            Assert.assertEquals(queued.get(WAIT_MILLIS, TimeUnit.MILLISECONDS), "GRANTED " + broker.serviceUrl);
+            Assert.assertEquals(observer.request("STATUS"), "STATUS 1 1 0");
+        }
+    }
+
+    @Test(description = "A queued lease whose fork disconnects leaves the queue and takes no slot")
+    public void testAbandonedQueuedLease() throws Exception {
+        try (Fixture broker = new Fixture(1);
+             Connection first = broker.connect();
+             Connection observer = broker.connect()) {
+            first.request("LEASE chrome");
+            Connection second = broker.connect();
+            second.send("LEASE chrome");
+            broker.awaitStatus(observer, "STATUS 1 1 1");
+
+            second.close();
+            broker.awaitStatus(observer, "STATUS 1 1 0");
+
+            first.send("RELEASE");
+            broker.awaitStatus(observer, "STATUS 1 0 0");
+        }
+    }
+
+    @Test(description = "A dropped connection frees its slot and quits its registered session")
+    public void testDisconnectQuitsSessionAndFreesSlot() throws Exception {
+        try (Fixture broker = new Fixture(1); Connection observer = broker.connect()) {
+            Connection fork = broker.connect();
+            fork.request("LEASE chrome");
+            fork.send("SESSION abc123");
+
+            fork.close();
+
+            broker.awaitStatus(observer, "STATUS 1 0 0");
+            Assert.assertEquals(broker.requests, List.of("DELETE /session/abc123"));
+        }
+    }
+
+    @Test(description = "RELEASE with the session still registered quits it before the slot is returned")
+    public void testReleaseQuitsOpenSession() throws Exception {
+        try (Fixture broker = new Fixture(1); Connection fork = broker.connect()) {
+            fork.request("LEASE chrome");
+            fork.send("SESSION abc123");
+
+            fork.send("RELEASE");
+
+            Assert.assertEquals(fork.request("STATUS"), "STATUS 1 0 0");
+            Assert.assertEquals(broker.requests, List.of("DELETE /session/abc123"));
+        }
+    }
+
+    @Test(description = "A session the fork quit itself is not quit again")
+    public void testEndedSessionIsNotQuitAgain() throws Exception {
+        try (Fixture broker = new Fixture(1); Connection fork = broker.connect()) {
+            fork.request("LEASE chrome");
+            fork.send("SESSION abc123");
+            fork.send("SESSION");
+
+            fork.send("RELEASE");
+
+            Assert.assertEquals(fork.request("STATUS"), "STATUS 1 0 0");
+            Assert.assertTrue(broker.requests.isEmpty(), "No DELETE expected, got: " + broker.requests);
+        }
+    }
+
+    /**
+     * A broker on an ephemeral port plus a fake driver service
+     */
+    private static final class Fixture implements Closeable {
+        private final HttpServer service;
+        private final ServerSocket server;
+        private final URL serviceUrl;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+
+        private Fixture(int maxBrowsers) throws IOException {
+            service = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            service.createContext("/", exchange -> {
+                requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+                byte[] body = "{\"value\":null}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            service.start();
+            serviceUrl = new URL("http://localhost:" + service.getAddress().getPort());
+
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            BrowserBroker broker = new BrowserBroker(server.getLocalPort(), maxBrowsers, 60, type -> serviceUrl);
+            Thread serving = new Thread(() -> {
+                try {
+                    broker.serve(server);
+                } catch (IOException e) {
+                    // close() closed the server socket
+                }
+            }, "broker-test");
+            serving.setDaemon(true);
+            serving.start();
+        }
+
+        private Connection connect() throws IOException {
+            return new Connection(new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+        }
+
+        /**
+         * Poll STATUS until it matches - for state changed by another connection
+         */
+        private void awaitStatus(Connection observer, String expected) throws Exception {
+            long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+            String status = observer.request("STATUS");
+            while (!status.equals(expected) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                status = observer.request("STATUS");
+            }
+            Assert.assertEquals(status, expected);
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            service.stop(0);
+        }
+    }
+
+    /**
+     * One client connection speaking the line protocol
+     */
+    private static final class Connection implements Closeable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setSoTimeout((int) WAIT_MILLIS);
+            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        private void send(String line) {
+            out.println(line);
+        }
+
+        private String request(String line) throws IOException {
+            out.println(line);
+            return in.readLine();
+        }
+
+        private String requestUnchecked(String line) {
+            try {
+                return request(line);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for BrowserPermits - cap, timeout and FIFO hand-over of browser permits
+ */
+public class BrowserPermitsTest {
+
+    @Test(description = "Permits up to the limit are granted at once and given back on release")
+    public void testAcquireAndRelease() {
+        BrowserPermits permits = new BrowserPermits(2, 1);
+
+        permits.acquire();
+        permits.acquire();
+        Assert.assertEquals(permits.getAvailable(), 0);
+
+        permits.release();
+        Assert.assertEquals(permits.getAvailable(), 1);
+    }
+
+    @Test(description = "Acquire fails after the timeout when every permit is held",
+            expectedExceptions = FrameworkException.class)
+    public void testAcquireTimesOut() {
+        BrowserPermits permits = new BrowserPermits(1, 0);
+        permits.acquire();
+        permits.acquire();
+    }
+
+    @Test(description = "A limit below one is rejected", expectedExceptions = FrameworkException.class)
+    public void testLimitMustBePositive() {
+        new BrowserPermits(0, 1);
+    }
+
+    @Test(description = "A released permit goes to the queued test, not to a newcomer")
+    public void testReleasedPermitGoesToQueuedTest() throws Exception {
+        BrowserPermits permits = new BrowserPermits(1, 2);
+        permits.acquire();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch waiting = new CountDownLatch(1);
+            Future<?> queued = executor.submit(() -> {
+                waiting.countDown();
+                permits.acquire();
+            });
+            waiting.await();
+            long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (permits.getQueueLength() == 0 && System.nanoTime() < until) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(permits.getQueueLength(), 1, "Second test should be queued");
+
+            permits.release();
+            // A newcomer arriving after the release must not overtake the queued test
+            Assert.assertThrows(FrameworkException.class, permits::acquire);
+            queued.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(permits.getAvailable(), 0, "Queued test should hold the permit");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.epam.driver;
+
+import org.epam.exceptions.FrameworkException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Unit tests for DriverPool - leasing, reuse, recycling and capacity (no browser needed)
+ */
+public class DriverPoolTest {
+
+    // Surefire runs test methods in parallel - every test keeps its own list of launched fakes
+    private static Supplier<WebDriver> factory(List<FakeWebDriver> launched) {
+        return () -> {
+            FakeWebDriver fake = new FakeWebDriver();
+            synchronized (launched) {
+                launched.add(fake);
+            }
+            return fake.getDriver();
+        };
+    }
+
+    @Test(description = "A released session is handed to the next lease instead of launching a new one")
+    public void testReleasedSessionIsReused() {
+        List<FakeWebDriver> launched = new ArrayList<>();
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 2, 20, 0, factory(launched));
+
+        WebDriver first = pool.lease();
+        Assert.assertTrue(pool.isLeased(first));
+        pool.release(first);
+        Assert.assertFalse(pool.isLeased(first));
+
+        Assert.assertSame(pool.lease(), first, "Idle session should be reused");
+        Assert.assertEquals(launched.size(), 1, "Only one browser should have been launched");
+    }
+
+    @Test(description = "A session is quit and replaced after max uses")
+    public void testSessionRecycledAfterMaxUses() {
+        List<FakeWebDriver> launched = new ArrayList<>();
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 1, 2, 0, factory(launched));
+
+        WebDriver driver = pool.lease();
+        pool.release(driver);
+        Assert.assertSame(pool.lease(), driver);
+        pool.release(driver);
+
+        Assert.assertEquals(launched.get(0).getQuitCount(), 1, "Worn-out session should be quit");
+        Assert.assertNotSame(pool.lease(), driver, "A new session should replace the recycled one");
+        Assert.assertEquals(launched.size(), 2);
+    }
+
+    @Test(description = "An exhausted pool fails after the lease timeout instead of launching beyond max size",
+            expectedExceptions = FrameworkException.class)
+    public void testExhaustedPoolTimesOut() {
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 1, 20, 0, factory(new ArrayList<>()));
+        pool.lease();
+        pool.lease();
+    }
+
+    @Test(description = "A failed launch gives its slot back")
+    public void testFailedLaunchFreesSlot() {
+        boolean[] fail = {true};
+        Supplier<WebDriver> flaky = () -> {
+            if (fail[0]) {
+                fail[0] = false;
+                throw new FrameworkException("launch failed");
+            }
+            return new FakeWebDriver().getDriver();
+        };
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 1, 20, 0, flaky);
+
+        Assert.assertThrows(FrameworkException.class, pool::lease);
+        Assert.assertNotNull(pool.lease(), "Slot of the failed launch should be free again");
+    }
+
+    @Test(description = "Shutdown quits idle sessions and refuses new leases")
+    public void testShutdownQuitsIdleSessions() {
+        List<FakeWebDriver> launched = new ArrayList<>();
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 2, 20, 0, factory(launched));
+        pool.release(pool.lease());
+
+        pool.shutdown();
+
+        Assert.assertEquals(launched.get(0).getQuitCount(), 1);
+        Assert.assertThrows(FrameworkException.class, pool::lease);
+    }
+
+    @Test(description = "Releasing a driver the pool never leased quits it")
+    public void testForeignDriverIsQuit() {
+        DriverPool pool = new DriverPool(BrowserType.CHROME, 1, 20, 0, factory(new ArrayList<>()));
+        FakeWebDriver foreign = new FakeWebDriver();
+
+        pool.release(foreign.getDriver());
+
+        Assert.assertEquals(foreign.getQuitCount(), 1);
+    }
+}
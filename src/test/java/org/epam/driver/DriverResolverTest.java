@@ -0,0 +1,90 @@
+package org.epam.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Unit tests for DriverResolver - expiry of WebDriverManager resolution cache entries and
+ * the version match that decides whether Edge bypasses Selenium Manager
+ */
+public class DriverResolverTest {
+
+    private static final DateTimeFormatter WDM_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss dd/MM/yyyy");
+
+    @Test(description = "A TTL in the future is fresh, whatever zone abbreviation WebDriverManager wrote")
+    public void testFutureTtlIsFresh() {
+        String ttl = LocalDateTime.now().plusHours(2).format(WDM_FORMAT);
+        Assert.assertTrue(DriverResolver.isFresh(ttl + " IST"));
+        Assert.assertTrue(DriverResolver.isFresh(ttl + " CET"));
+    }
+
+    @Test(description = "A TTL in the past is expired")
+    public void testPastTtlIsExpired() {
+        String ttl = LocalDateTime.now().minusHours(2).format(WDM_FORMAT);
+        Assert.assertFalse(DriverResolver.isFresh(ttl + " IST"));
+    }
+
+    @Test(description = "Missing or malformed TTLs count as expired")
+    public void testInvalidTtlIsExpired() {
+        Assert.assertFalse(DriverResolver.isFresh(null));
+        Assert.assertFalse(DriverResolver.isFresh(""));
+        Assert.assertFalse(DriverResolver.isFresh("tomorrow"));
+        Assert.assertFalse(DriverResolver.isFresh("25:00:00 40/13/2025 IST"));
+    }
+
+    @Test(description = "A driver matches a browser of the same major version only")
+    public void testDriverMatchesBrowser() {
+        Assert.assertTrue(DriverResolver.driverMatchesBrowser("143", "143.0.3650.66"));
+        Assert.assertFalse(DriverResolver.driverMatchesBrowser("143", "131.0.2903.147"));
+        Assert.assertFalse(DriverResolver.driverMatchesBrowser("14", "143.0.3650.66"));
+    }
+
+    @Test(description = "A stale cached msedgedriver (edge143=131...) is not used - Selenium Manager decides")
+    public void testMismatchedCachedEdgeDriverIsIgnored() throws IOException {
+        Path cache = edgeCache("131.0.2903.147", LocalDateTime.now().plusHours(2));
+
+        Assert.assertEquals(DriverResolver.findMatchingInCache(BrowserType.EDGE, cache, false), Optional.empty());
+    }
+
+    @Test(description = "A cached msedgedriver of the browser's major version with a fresh record is used")
+    public void testMatchingCachedEdgeDriverIsUsed() throws IOException {
+        Path cache = edgeCache("143.0.3650.66", LocalDateTime.now().plusHours(2));
+
+        Optional<Path> driver = DriverResolver.findMatchingInCache(BrowserType.EDGE, cache, false);
+
+        Assert.assertTrue(driver.isPresent());
+        Assert.assertEquals(driver.get().getParent().getFileName().toString(), "143.0.3650.66");
+    }
+
+    @Test(description = "An expired record is only trusted offline")
+    public void testExpiredRecordNeedsOfflineMode() throws IOException {
+        Path cache = edgeCache("143.0.3650.66", LocalDateTime.now().minusHours(2));
+
+        Assert.assertFalse(DriverResolver.findMatchingInCache(BrowserType.EDGE, cache, false).isPresent());
+        Assert.assertTrue(DriverResolver.findMatchingInCache(BrowserType.EDGE, cache, true).isPresent());
+    }
+
+    /**
+     * WebDriverManager-style cache: resolution.properties for Edge 143 plus one msedgedriver binary
+     */
+    private static Path edgeCache(String driverVersion, LocalDateTime ttl) throws IOException {
+        Path cache = Files.createTempDirectory("wdm-cache");
+        String expiry = ttl.format(WDM_FORMAT).replace(":", "\\:") + " IST";
+        Files.write(cache.resolve("resolution.properties"), List.of(
+                "edge=143",
+                "edge143=" + driverVersion,
+                "edge143-ttl=" + expiry));
+        boolean windows = System.getProperty("os.name", "").toLowerCase().contains("win");
+        Path versionDir = Files.createDirectories(cache.resolve("msedgedriver").resolve("linux64").resolve(driverVersion));
+        Files.createFile(versionDir.resolve(windows ? "msedgedriver.exe" : "msedgedriver"));
+        return cache;
+    }
+}
@@ -0,0 +1,118 @@
+package org.epam.driver;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake WebDriver - Browser-less WebDriver for unit tests of the driver layer
+ *
+ * Every call succeeds: nested interfaces (manage(), navigate(), switchTo()) return fakes
+ * of themselves, getWindowHandles() returns one window, everything else returns null.
+ * quit() calls are counted and switchTo().window(handle) changes getWindowHandle().
+ *
+ * chromium() also implements HasCdp: Target.createBrowserContext / Target.createTarget
+ * answer with fixed ids (CONTEXT_ID, TARGET_ID), other commands with an empty map.
+ *
+ * Usage:
+ * FakeWebDriver fake = new FakeWebDriver();
+ * WebDriver driver = fake.getDriver();
+ * assertEquals(fake.getQuitCount(), 1);
+ */
+public class FakeWebDriver {
+
+    public static final String CONTEXT_ID = "fake-context";
+    public static final String TARGET_ID = "fake-target";
+
+    private final AtomicInteger quitCount = new AtomicInteger();
+    private final WebDriver driver;
+    private volatile String currentWindow = "main";
+
+    public FakeWebDriver() {
+        this(new Class<?>[]{WebDriver.class, JavascriptExecutor.class});
+    }
+
+    private FakeWebDriver(Class<?>[] interfaces) {
+        this.driver = (WebDriver) proxy(interfaces);
+    }
+
+    /**
+     * @return fake Chrome/Edge session (also implements HasCdp)
+     */
+    public static FakeWebDriver chromium() {
+        return new FakeWebDriver(new Class<?>[]{WebDriver.class, JavascriptExecutor.class, HasCdp.class});
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public int getQuitCount() {
+        return quitCount.get();
+    }
+
+    private Object proxy(Class<?>[] interfaces) {
+        InvocationHandler handler = this::invoke;
+        return Proxy.newProxyInstance(FakeWebDriver.class.getClassLoader(), interfaces, handler);
+    }
+
+    private Object invoke(Object self, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "quit":
+                quitCount.incrementAndGet();
+                return null;
+            case "getWindowHandles":
+                return Set.of("main");
+            case "getWindowHandle":
+                return currentWindow;
+            case "window":
+                if (args != null && args.length == 1) {
+                    currentWindow = (String) args[0];
+                    return driver;
+                }
+                break;
+            case "executeCdpCommand":
+                if ("Target.createBrowserContext".equals(args[0])) {
+                    return Map.of("browserContextId", CONTEXT_ID);
+                }
+                if ("Target.createTarget".equals(args[0])) {
+                    return Map.of("targetId", TARGET_ID);
+                }
+                return Collections.emptyMap();
+            case "hashCode":
+                return System.identityHashCode(self);
+            case "equals":
+                return self == args[0];
+            case "toString":
+                return "FakeWebDriver@" + Integer.toHexString(System.identityHashCode(self));
+            default:
+                break;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType.isInterface() && returnType != Set.class) {
+            return proxy(new Class<?>[]{returnType});
+        }
+        if (returnType == Dimension.class) {
+            return new Dimension(1280, 800);
+        }
+        if (returnType == Set.class) {
+            return Collections.emptySet();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class || returnType == long.class) {
+            return returnType == int.class ? (Object) 0 : (Object) 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.epam.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for NetworkMonitor - which page the DevTools session watches
+ */
+public class NetworkMonitorTest {
+
+    @Test(description = "After context isolation switched windows, the monitor targets the isolated tab")
+    public void testSessionTargetsIsolatedTab() {
+        WebDriver driver = FakeWebDriver.chromium().getDriver();
+        String parent = driver.getWindowHandle();
+
+        BrowserContextManager.IsolatedContext context = BrowserContextManager.open(driver);
+
+        Assert.assertEquals(context.getTargetId(), FakeWebDriver.TARGET_ID);
+        Assert.assertEquals(NetworkMonitor.sessionTarget(driver), FakeWebDriver.TARGET_ID,
+                "DevTools must attach to the isolated tab, not the parent " + parent);
+    }
+
+    @Test(description = "Without isolation the monitor targets the current window")
+    public void testSessionTargetsCurrentWindow() {
+        WebDriver driver = new FakeWebDriver().getDriver();
+
+        Assert.assertEquals(NetworkMonitor.sessionTarget(driver), "main");
+    }
+}
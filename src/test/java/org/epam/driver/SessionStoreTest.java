@@ -0,0 +1,58 @@
+package org.epam.driver;
+
+import org.openqa.selenium.Cookie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Unit tests for SessionStore and SessionSnapshot expiry
+ */
+public class SessionStoreTest {
+
+    private static SessionSnapshot snapshot(Cookie... cookies) {
+        return new SessionSnapshot("https://www.saucedemo.com", List.of(cookies), Collections.emptyMap(),
+                Collections.emptyMap());
+    }
+
+    @Test(description = "A snapshot expires after the TTL")
+    public void testSnapshotExpiresAfterTtl() {
+        SessionSnapshot snapshot = snapshot(new Cookie("session-username", "standard_user"));
+
+        Assert.assertFalse(snapshot.isExpired(Duration.ofMinutes(5)));
+        Assert.assertTrue(snapshot.isExpired(Duration.ZERO));
+    }
+
+    @Test(description = "A snapshot with an expired cookie is expired even within the TTL")
+    public void testSnapshotExpiresWithCookie() {
+        Date past = new Date(System.currentTimeMillis() - 60_000);
+        SessionSnapshot snapshot = snapshot(new Cookie("session-username", "standard_user", "/", past));
+
+        Assert.assertTrue(snapshot.isExpired(Duration.ofMinutes(5)));
+    }
+
+    @Test(description = "An expired snapshot is dropped on get()")
+    public void testExpiredSnapshotIsDropped() {
+        Date past = new Date(System.currentTimeMillis() - 60_000);
+        SessionStore.put("store-test-expired", snapshot(new Cookie("session-username", "x", "/", past)));
+
+        Assert.assertNull(SessionStore.get("store-test-expired"));
+    }
+
+    @Test(description = "A snapshot stored on one thread is reused on another")
+    public void testSnapshotSharedAcrossThreads() throws Exception {
+        SessionSnapshot snapshot = snapshot(new Cookie("session-username", "standard_user"));
+        SessionStore.put("store-test-shared", snapshot);
+
+        SessionSnapshot fromOtherThread = CompletableFuture.supplyAsync(() -> SessionStore.get("store-test-shared")).get();
+
+        Assert.assertSame(fromOtherThread, snapshot);
+        SessionStore.invalidate("store-test-shared");
+        Assert.assertNull(SessionStore.get("store-test-shared"));
+    }
+}
@@ -0,0 +1,87 @@
+package org.epam.listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for DurationHistory - smoothing, pinned snapshot and merging saves
+ */
+public class DurationHistoryTest {
+
+    private static Path historyFile() throws IOException {
+        Path dir = Files.createTempDirectory("duration-history");
+        dir.toFile().deleteOnExit();
+        return dir.resolve("durations.properties");
+    }
+
+    @Test(description = "A missing file starts an empty history and unknown tests get the default")
+    public void testMissingFile() throws IOException {
+        DurationHistory history = DurationHistory.load(historyFile());
+
+        Assert.assertFalse(history.contains("a.Test.one"));
+        Assert.assertEquals(history.getDuration("a.Test.one", 30000), 30000);
+    }
+
+    @Test(description = "Saved measurements are read back, and a new one moves the value halfway")
+    public void testSaveLoadAndSmoothing() throws IOException {
+        Path file = historyFile();
+        DurationHistory first = DurationHistory.load(file);
+        first.record("a.Test.one", 4000);
+        first.save();
+
+        DurationHistory second = DurationHistory.load(file);
+        Assert.assertEquals(second.getDuration("a.Test.one", 0), 4000);
+        second.record("a.Test.one", 2000);
+        second.save();
+
+        Assert.assertEquals(DurationHistory.load(file).getDuration("a.Test.one", 0), 3000);
+    }
+
+    @Test(description = "The loaded snapshot does not change while the run records")
+    public void testSnapshotIsPinned() throws IOException {
+        DurationHistory history = DurationHistory.load(historyFile());
+
+        history.record("a.Test.one", 4000);
+
+        Assert.assertFalse(history.contains("a.Test.one"), "This run's measurements only reach the file");
+    }
+
+    @Test(description = "Two runs saving the same file keep each other's measurements")
+    public void testConcurrentRunsMerge() throws IOException {
+        Path file = historyFile();
+        DurationHistory forkA = DurationHistory.load(file);
+        DurationHistory forkB = DurationHistory.load(file);
+
+        forkA.record("a.Test.one", 1000);
+        forkB.record("a.Test.two", 2000);
+        forkA.save();
+        forkB.save();
+
+        DurationHistory merged = DurationHistory.load(file);
+        Assert.assertEquals(merged.getDuration("a.Test.one", 0), 1000);
+        Assert.assertEquals(merged.getDuration("a.Test.two", 0), 2000);
+    }
+
+    @Test(description = "Keys with spaces, '=' and ':' survive a round trip; a method sums its invocations")
+    public void testParameterisedKeys() throws IOException {
+        Path file = historyFile();
+        String method = "io.cucumber.testng.AbstractTestNGCucumberTests.runScenario";
+        String valid = method + "[\"Valid login\", \"Login: a=b\"]";
+        String locked = method + "[\"Locked user\", \"Login: a=b\"]";
+        DurationHistory history = DurationHistory.load(file);
+        history.record(valid, 1500);
+        history.record(locked, 2500);
+        history.save();
+
+        DurationHistory loaded = DurationHistory.load(file);
+        Assert.assertEquals(loaded.getDuration(valid, 0), 1500);
+        Assert.assertEquals(loaded.getDuration(locked, 0), 2500);
+        Assert.assertTrue(loaded.containsMethod(method));
+        Assert.assertEquals(loaded.getMethodDuration(method, 30000), 4000);
+        Assert.assertEquals(loaded.getMethodDuration(method + "Other", 30000), 30000);
+    }
+}
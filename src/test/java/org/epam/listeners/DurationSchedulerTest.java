@@ -0,0 +1,131 @@
+package org.epam.listeners;
+
+import org.epam.exceptions.ConfigurationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Unit tests for DurationScheduler - shard planning and invocation keys
+ */
+public class DurationSchedulerTest {
+
+    private static final List<String> TESTS = Arrays.asList(
+            "org.epam.tests.LoginTest.testValidLogin",
+            "org.epam.tests.CartTest.testAddToCart",
+            "org.epam.tests.LoginTest.testLockedUser",
+            "org.epam.tests.ShoppingFlowTest.testCheckout",
+            "org.epam.tests.CartTest.testRemoveAll");
+
+    private static final ToLongFunction<String> SAME_DURATION = key -> 1000L;
+
+    @Test(description = "Shards are disjoint and together cover every test")
+    public void testShardsPartitionTheSuite() {
+        Set<String> covered = new HashSet<>();
+        int total = 0;
+        for (int index = 0; index < 3; index++) {
+            Set<String> shard = DurationScheduler.shardOf(TESTS, SAME_DURATION, 3, index);
+            total += shard.size();
+            covered.addAll(shard);
+        }
+        Assert.assertEquals(total, TESTS.size(), "No test may be in two shards");
+        Assert.assertEquals(covered, new HashSet<>(TESTS), "Every test must be in a shard");
+    }
+
+    @Test(description = "The split depends on the test names and durations only, not on their order")
+    public void testShardsAreStable() {
+        List<String> reversed = new ArrayList<>(TESTS);
+        Collections.reverse(reversed);
+
+        Assert.assertEquals(DurationScheduler.shardOf(reversed, SAME_DURATION, 2, 0),
+                DurationScheduler.shardOf(TESTS, SAME_DURATION, 2, 0));
+        Assert.assertEquals(DurationScheduler.shardOf(reversed, SAME_DURATION, 2, 1),
+                DurationScheduler.shardOf(TESTS, SAME_DURATION, 2, 1));
+    }
+
+    @Test(description = "Shards are bin-packed by duration: disjoint, complete and balanced")
+    public void testShardsAreBalancedByDuration() {
+        Map<String, Long> durations = Map.of(
+                "A", 9000L, "B", 7000L, "C", 6000L, "D", 5000L,
+                "E", 4000L, "F", 3000L, "G", 2000L, "H", 1000L);
+        ToLongFunction<String> durationOf = durations::get;
+
+        Set<String> first = DurationScheduler.shardOf(durations.keySet(), durationOf, 2, 0);
+        Set<String> second = DurationScheduler.shardOf(durations.keySet(), durationOf, 2, 1);
+
+        Set<String> covered = new HashSet<>(first);
+        covered.addAll(second);
+        Assert.assertEquals(first.size() + second.size(), durations.size(), "No test may be in two shards");
+        Assert.assertEquals(covered, durations.keySet(), "Every test must be in a shard");
+        // 37 s in total - LPT reaches the optimal 19 s / 18 s split (round-robin by name gives 21 s / 16 s)
+        Assert.assertEquals(first.stream().mapToLong(durationOf).sum(), 19000L);
+        Assert.assertEquals(second.stream().mapToLong(durationOf).sum(), 18000L);
+    }
+
+    @Test(description = "Scenarios of one runner method are keyed per invocation and spread over the shards")
+    public void testInvocationsSpreadOverShards() {
+        String method = "org.epam.runners.CucumberRunner.runScenario";
+        List<String> scenarios = Arrays.asList(
+                DurationScheduler.invocationKey(method, new Object[]{"\"Valid login\"", "\"Login\""}),
+                DurationScheduler.invocationKey(method, new Object[]{"\"Locked user\"", "\"Login\""}),
+                DurationScheduler.invocationKey(method, new Object[]{"\"Checkout\"", "\"Shopping\""}),
+                DurationScheduler.invocationKey(method, new Object[]{"\"Sort by price\"", "\"Shopping\""}));
+
+        Set<String> first = DurationScheduler.shardOf(scenarios, SAME_DURATION, 2, 0);
+        Set<String> second = DurationScheduler.shardOf(scenarios, SAME_DURATION, 2, 1);
+
+        Assert.assertEquals(first.size(), 2);
+        Assert.assertEquals(second.size(), 2);
+    }
+
+    @Test(description = "Instances of the same method stay in one shard")
+    public void testDuplicateNamesShareAShard() {
+        List<String> withDuplicates = new ArrayList<>(TESTS);
+        withDuplicates.add("org.epam.tests.CartTest.testAddToCart");
+
+        Set<String> first = DurationScheduler.shardOf(withDuplicates, SAME_DURATION, 2, 0);
+        Set<String> second = DurationScheduler.shardOf(withDuplicates, SAME_DURATION, 2, 1);
+
+        Assert.assertEquals(first.size() + second.size(), TESTS.size());
+    }
+
+    @Test(description = "An index outside 0..count-1 is rejected", expectedExceptions = ConfigurationException.class)
+    public void testShardIndexOutOfRange() {
+        DurationScheduler.validateShard(2, 2);
+    }
+
+    @Test(description = "A negative index is rejected", expectedExceptions = ConfigurationException.class)
+    public void testNegativeShardIndex() {
+        DurationScheduler.validateShard(2, -1);
+    }
+
+    @Test(description = "A shard count below one is rejected", expectedExceptions = ConfigurationException.class)
+    public void testShardCountMustBePositive() {
+        DurationScheduler.validateShard(0, 0);
+    }
+
+    @Test(description = "Every index of a valid count is accepted")
+    public void testValidShardIndex() {
+        DurationScheduler.validateShard(1, 0);
+        DurationScheduler.validateShard(3, 2);
+    }
+
+    @Test(description = "Parameterised invocations - e.g. Cucumber scenarios - get their own keys")
+    public void testInvocationKeyIncludesParameters() {
+        String method = "org.epam.runners.CucumberRunner.runScenario";
+
+        Assert.assertEquals(DurationScheduler.invocationKey(method, new Object[0]), method);
+        Assert.assertEquals(DurationScheduler.invocationKey(method, new Object[]{"\"Valid login\"", "\"Login\""}),
+                method + "[\"Valid login\", \"Login\"]");
+        Assert.assertNotEquals(DurationScheduler.invocationKey(method, new Object[]{"\"Valid login\"", "\"Login\""}),
+                DurationScheduler.invocationKey(method, new Object[]{"\"Locked user\"", "\"Login\""}));
+    }
+}
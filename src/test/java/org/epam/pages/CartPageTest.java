@@ -0,0 +1,21 @@
+package org.epam.pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for CartPage.toCartContents - the localStorage value used to seed the cart
+ */
+public class CartPageTest {
+
+    @Test(description = "Products are written as SauceDemo ids in the given order")
+    public void testCartContents() {
+        Assert.assertEquals(CartPage.toCartContents(Product.BACKPACK, Product.BIKE_LIGHT), "[4,0]");
+        Assert.assertEquals(CartPage.toCartContents(Product.FLEECE_JACKET), "[5]");
+    }
+
+    @Test(description = "An empty cart is an empty JSON array")
+    public void testEmptyCart() {
+        Assert.assertEquals(CartPage.toCartContents(), "[]");
+    }
+}
@@ -0,0 +1,71 @@
+package org.epam.pages;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for ElementState - conversion of one queryElements() script entry
+ */
+public class ElementStateTest {
+
+    private static final By LOCATOR = By.id("total");
+
+    @Test(description = "A present element keeps its visibility, text and requested attributes")
+    public void testPresentElement() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("class", "summary_total_label");
+        attributes.put("data-test", null);
+        Map<String, Object> raw = new HashMap<>();
+        raw.put("present", true);
+        raw.put("displayed", true);
+        raw.put("text", "Total: $32.39");
+        raw.put("attributes", attributes);
+
+        ElementState state = ElementState.fromScriptResult(LOCATOR, raw);
+
+        Assert.assertTrue(state.isPresent());
+        Assert.assertTrue(state.isDisplayed());
+        Assert.assertEquals(state.getText(), "Total: $32.39");
+        Assert.assertEquals(state.getAttribute("class"), "summary_total_label");
+        Assert.assertNull(state.getAttribute("data-test"));
+        Assert.assertSame(state.getLocator(), LOCATOR);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> state.getAttributes().put("id", "x"));
+    }
+
+    @Test(description = "A missing entry or present=false reads as absent, hidden and empty")
+    public void testAbsentElement() {
+        Map<String, Object> notPresent = new HashMap<>();
+        notPresent.put("present", false);
+        notPresent.put("text", "stale text");
+
+        for (ElementState state : new ElementState[]{
+                ElementState.fromScriptResult(LOCATOR, null), ElementState.fromScriptResult(LOCATOR, notPresent)}) {
+            Assert.assertFalse(state.isPresent());
+            Assert.assertFalse(state.isDisplayed());
+            Assert.assertEquals(state.getText(), "");
+            Assert.assertTrue(state.getAttributes().isEmpty());
+        }
+    }
+
+    @Test(description = "Malformed entries: missing text and displayed flags, non-map attributes, non-string text")
+    public void testMalformedEntry() {
+        Map<String, Object> raw = new HashMap<>();
+        raw.put("present", true);
+        raw.put("attributes", "class=total");
+
+        ElementState state = ElementState.fromScriptResult(LOCATOR, raw);
+
+        Assert.assertTrue(state.isPresent());
+        Assert.assertFalse(state.isDisplayed());
+        Assert.assertEquals(state.getText(), "");
+        Assert.assertTrue(state.getAttributes().isEmpty());
+
+        raw.put("text", 3L);
+        Assert.assertEquals(ElementState.fromScriptResult(LOCATOR, raw).getText(), "3");
+    }
+}
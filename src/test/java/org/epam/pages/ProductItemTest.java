@@ -0,0 +1,81 @@
+package org.epam.pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for ProductItem - conversion of the READ_ITEMS_SCRIPT result
+ */
+public class ProductItemTest {
+
+    @Test(description = "Cart and inventory rows convert with price, quantity and button")
+    public void testFromScriptResult() {
+        List<ProductItem> items = ProductItem.fromScriptResult(Arrays.asList(
+                row("Sauce Labs Backpack", "$29.99", "2", "remove-sauce-labs-backpack"),
+                row("Sauce Labs Onesie", "$7.99", "", "remove-sauce-labs-onesie"),
+                row("Sauce Labs Bike Light", "$9.99", "", "add-to-cart-sauce-labs-bike-light")));
+
+        Assert.assertEquals(items.size(), 3);
+        Assert.assertEquals(items.get(0).getName(), "Sauce Labs Backpack");
+        Assert.assertEquals(items.get(0).getPrice(), new BigDecimal("29.99"));
+        Assert.assertEquals(items.get(0).getQuantity(), 2);
+        Assert.assertEquals(items.get(1).getQuantity(), 1, "Inventory row with a Remove button is in the cart");
+        Assert.assertEquals(items.get(2).getQuantity(), 0, "Inventory row with an Add button is not in the cart");
+        Assert.assertEquals(items.get(2).getButtonId(), "add-to-cart-sauce-labs-bike-light");
+    }
+
+    @Test(description = "An empty or missing script result gives an empty, immutable list")
+    public void testEmptyResult() {
+        Assert.assertTrue(ProductItem.fromScriptResult(Collections.emptyList()).isEmpty());
+        Assert.assertTrue(ProductItem.fromScriptResult(null).isEmpty());
+        Assert.assertThrows(UnsupportedOperationException.class,
+                () -> ProductItem.fromScriptResult(Collections.emptyList()).add(null));
+    }
+
+    @Test(description = "Malformed rows: missing fields read as empty, bad numbers do not throw, non-rows are skipped")
+    public void testMalformedRows() {
+        Map<String, Object> missingFields = new HashMap<>();
+        missingFields.put("name", "Sauce Labs Backpack");
+
+        List<ProductItem> items = ProductItem.fromScriptResult(Arrays.asList(
+                missingFields,
+                row("Sauce Labs Onesie", "free", "two", "add-to-cart-sauce-labs-onesie"),
+                "not a row"));
+
+        Assert.assertEquals(items.size(), 2);
+        ProductItem sparse = items.get(0);
+        Assert.assertEquals(sparse.getDescription(), "");
+        Assert.assertEquals(sparse.getButtonId(), "");
+        Assert.assertNull(sparse.getPrice());
+        Assert.assertEquals(sparse.getQuantity(), 0);
+        Assert.assertNull(items.get(1).getPrice());
+        Assert.assertEquals(items.get(1).getQuantity(), 0);
+    }
+
+    @Test(description = "Price text is reduced to its number; text without a valid number gives null")
+    public void testParsePrice() {
+        Assert.assertEquals(ProductItem.parsePrice("$29.99"), new BigDecimal("29.99"));
+        Assert.assertEquals(ProductItem.parsePrice(" $1,049.00 "), new BigDecimal("1049.00"));
+        Assert.assertEquals(ProductItem.parsePrice("Item total: $7.99"), new BigDecimal("7.99"));
+        Assert.assertNull(ProductItem.parsePrice(""));
+        Assert.assertNull(ProductItem.parsePrice("$"));
+        Assert.assertNull(ProductItem.parsePrice("1.2.3"));
+    }
+
+    private static Map<String, Object> row(String name, String price, String quantity, String buttonId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("name", name);
+        row.put("description", "");
+        row.put("price", price);
+        row.put("quantity", quantity);
+        row.put("buttonId", buttonId);
+        return row;
+    }
+}
@@ -0,0 +1,39 @@
+package org.epam.pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for Product.fromName - the one product-name matcher
+ */
+public class ProductTest {
+
+    @Test(description = "A full display name matches regardless of case")
+    public void testFullName() {
+        Assert.assertEquals(Product.fromName("Sauce Labs Backpack"), Product.BACKPACK);
+        Assert.assertEquals(Product.fromName("  sauce labs fleece jacket "), Product.FLEECE_JACKET);
+    }
+
+    @Test(description = "A unique partial name matches")
+    public void testUniquePartialName() {
+        Assert.assertEquals(Product.fromName("Backpack"), Product.BACKPACK);
+        Assert.assertEquals(Product.fromName("bike light"), Product.BIKE_LIGHT);
+        Assert.assertEquals(Product.fromName("(Red)"), Product.RED_TSHIRT);
+    }
+
+    @Test(description = "\"T-Shirt\" is an alias for the Bolt T-Shirt, not an ambiguous partial name")
+    public void testTshirtAlias() {
+        Assert.assertEquals(Product.fromName("T-Shirt"), Product.BOLT_TSHIRT);
+        Assert.assertEquals(Product.fromName("tshirt"), Product.BOLT_TSHIRT);
+    }
+
+    @Test(description = "A partial name of several products is rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testAmbiguousName() {
+        Product.fromName("Sauce Labs");
+    }
+
+    @Test(description = "An unknown name is rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownName() {
+        Product.fromName("Umbrella");
+    }
+}
@@ -0,0 +1,55 @@
+package org.epam.pages;
+
+import org.epam.exceptions.ElementNotFoundException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Unit tests for the ProductsPage name index and product lookup
+ */
+public class ProductsPageTest {
+
+    private static final ProductItem BACKPACK = item("Sauce Labs Backpack", "29.99");
+    private static final ProductItem BOLT_TSHIRT = item("Sauce Labs Bolt T-Shirt", "15.99");
+    private static final ProductItem RED_TSHIRT = item("Test.allTheThings() T-Shirt (Red)", "15.99");
+
+    private static final Map<String, ProductItem> INDEX =
+            ProductsPage.indexByName(Arrays.asList(BACKPACK, BOLT_TSHIRT, RED_TSHIRT));
+
+    @Test(description = "The index keys products by lower-case name in page order")
+    public void testIndexByName() {
+        Assert.assertEquals(new ArrayList<>(INDEX.keySet()), Arrays.asList(
+                "sauce labs backpack", "sauce labs bolt t-shirt", "test.allthethings() t-shirt (red)"));
+        Assert.assertSame(INDEX.get("sauce labs backpack"), BACKPACK);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> INDEX.put("x", BACKPACK));
+    }
+
+    @Test(description = "Exact, partial and alias names resolve to the product on the page")
+    public void testFindProduct() {
+        Assert.assertSame(ProductsPage.findProduct(INDEX, "Sauce Labs Backpack"), BACKPACK);
+        Assert.assertSame(ProductsPage.findProduct(INDEX, "backpack"), BACKPACK);
+        Assert.assertSame(ProductsPage.findProduct(INDEX, "T-Shirt"), BOLT_TSHIRT);
+        Assert.assertSame(ProductsPage.findProduct(INDEX, "(Red)"), RED_TSHIRT);
+    }
+
+    @Test(description = "An unknown name is reported as a missing element", expectedExceptions = ElementNotFoundException.class)
+    public void testUnknownProduct() {
+        ProductsPage.findProduct(INDEX, "Umbrella");
+    }
+
+    @Test(description = "A known product that is not on the page is reported as missing",
+            expectedExceptions = ElementNotFoundException.class)
+    public void testProductNotOnPage() {
+        ProductsPage.findProduct(INDEX, "Onesie");
+    }
+
+    private static ProductItem item(String name, String price) {
+        String slug = name.toLowerCase().replaceAll("[^a-z0-9]+", "-");
+        return new ProductItem(name, "", new BigDecimal(price), 0, "add-to-cart-" + slug);
+    }
+}
@@ -2,6 +2,7 @@ package org.epam.runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.epam.listeners.DurationScheduler;
 import org.testng.annotations.DataProvider;
 
 /**
@@ -23,6 +24,7 @@ import org.testng.annotations.DataProvider;
  * - Generates Allure reports
  * - Integrates with TestNG framework
  * - Parallel execution compatible
+ * - Sharded per scenario with -Dschedule.shard.count / -Dschedule.shard.index
  */
 @CucumberOptions(
         features = "src/test/resources/features/SauceDemo.feature",
@@ -37,18 +39,18 @@ import org.testng.annotations.DataProvider;
         publish = false,
         dryRun = false
 )
-public class CucumberRunner extends AbstractTestNGCucumberTests {
+public class CucumberRunner extends AbstractTestNGCucumberTests implements DurationScheduler.ShardedDataProvider {
 
     /**
      * Data provider for parallel execution
-     * Allows TestNG to run scenarios in parallel
+     * Allows TestNG to run scenarios in parallel; keeps only this shard's scenarios
      *
      * @return scenarios for parallel execution
      */
     @DataProvider(parallel = true)
     @Override
     public Object[][] scenarios() {
-        return super.scenarios();
+        return DurationScheduler.shardInvocations(getClass().getName() + ".runScenario", super.scenarios());
     }
 }
 
@@ -2,6 +2,9 @@ package org.epam.stepdefinitions;
 
 import io.cucumber.java.Before;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
@@ -10,6 +13,7 @@ import io.qameta.allure.Step;
 import org.epam.driver.DriverManager;
 import org.epam.pages.LoginPage;
 import org.epam.pages.ProductsPage;
+import org.epam.utils.RetryPolicy;
 import org.epam.utils.TestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,10 +30,16 @@ public class LoginStepDefinitions {
     private LoginPage loginPage;
     private ProductsPage productsPage;
 
+    @BeforeAll
+    public static void resetCircuitBreaker() {
+        // Circuits opened by an earlier run in this JVM must not fail-fast this one
+        RetryPolicy.UI_CIRCUIT_BREAKER.reset();
+    }
+
     @Before
-    public void setupTest() {
+    public void setupTest(Scenario scenario) {
         logger.info("Creating WebDriver instance for Cucumber test");
-        DriverManager.createDriver();
+        DriverManager.createDriver(scenario.getName());
         loginPage = new LoginPage();
         productsPage = new ProductsPage();
         logger.info("WebDriver and Page Objects initialized");
@@ -42,6 +52,12 @@ public class LoginStepDefinitions {
         logger.info("WebDriver closed");
     }
 
+    @AfterAll
+    public static void shutdownDriverPool() {
+        logger.info("Shutting down driver pool after Cucumber run");
+        DriverManager.shutdownPool();
+    }
+
     @Given("User is on SauceDemo website")
     public void userIsOnSauceDemoWebsite() {
         logger.info("=== STEP: User is on SauceDemo website ===");
@@ -65,6 +81,15 @@ public class LoginStepDefinitions {
         }
     }
 
+    @Given("User is logged in as {string} with password {string}")
+    public void userIsLoggedIn(String username, String password) {
+        logger.info("=== STEP: User is logged in as {} ===", username);
+        Allure.step("Log in as " + username + " (saved session when available)", () -> {
+            loginPage.loginReusingSession(username, password);
+            TestUtils.logTestStep("Logged in as: " + username);
+        });
+    }
+
     @Then("User should be successfully logged in")
     public void userShouldBeSuccessfullyLoggedIn() {
         logger.info("=== STEP: Verify user is successfully logged in ===");
@@ -44,15 +44,7 @@ public class ShoppingStepDefinitions {
         logger.info("=== STEP: User adds {} product to cart ===", productName);
         try {
             Allure.step("Add " + productName + " to cart", () -> {
-                if (productName.toLowerCase().contains("backpack")) {
-                    productsPage.addBackpackToCart();
-                } else if (productName.toLowerCase().contains("bike light")) {
-                    productsPage.addBikeLightToCart();
-                } else if (productName.toLowerCase().contains("t-shirt")) {
-                    productsPage.addTshirtToCart();
-                } else {
-                    throw new IllegalArgumentException("Unknown product: " + productName);
-                }
+                productsPage.addToCart(productName);
                 TestUtils.logTestStep("Product added to cart: " + productName);
                 logger.info("Product {} added to cart", productName);
             });
@@ -40,7 +40,7 @@ public class ShoppingFlowTest extends BaseTest {
             logStep("Logging in with valid credentials");
             try {
                 Allure.step("Login with standard user", () -> {
-                    loginPage.login("standard_user", "secret_sauce");
+                    loginPage.loginReusingSession("standard_user", "secret_sauce");
                 });
             } catch (ElementNotFoundException e) {
                 logger.error("Login element not found: {}", e.getMessage());
@@ -0,0 +1,146 @@
+package org.epam.utils;
+
+import org.epam.exceptions.CircuitOpenException;
+import org.epam.exceptions.ConfigurationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for CircuitBreaker and its use by RetryUtils - open, half-open and abandoned trials
+ */
+public class CircuitBreakerTest {
+
+    private static final RuntimeException FAILURE = new IllegalStateException("boom");
+
+    @Test(description = "A key's circuit opens after the threshold and rejects further operations")
+    public void testKeyCircuitOpensAfterThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 100, Duration.ofMinutes(1));
+        breaker.checkClosed("a");
+        breaker.recordFailure("a", FAILURE);
+        breaker.checkClosed("a");
+        breaker.recordFailure("a", FAILURE);
+
+        CircuitOpenException open = Assert.expectThrows(CircuitOpenException.class, () -> breaker.checkClosed("a"));
+        Assert.assertSame(open.getCause(), FAILURE);
+        breaker.checkClosed("b");
+    }
+
+    @Test(description = "A success resets the failure count")
+    public void testSuccessResetsCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 100, Duration.ofMinutes(1));
+        breaker.recordFailure("a", FAILURE);
+        breaker.recordSuccess("a");
+        breaker.recordFailure("a", FAILURE);
+
+        breaker.checkClosed("a");
+    }
+
+    @Test(description = "After the open duration one trial is let through; a failed trial re-opens the circuit")
+    public void testHalfOpenAllowsOneTrial() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, Duration.ZERO);
+        breaker.recordFailure("a", FAILURE);
+
+        breaker.checkClosed("a");
+        Assert.assertThrows(CircuitOpenException.class, () -> breaker.checkClosed("a"));
+
+        breaker.recordFailure("a", FAILURE);
+        breaker.checkClosed("a");
+    }
+
+    @Test(description = "An abandoned trial frees the half-open slot for the next caller")
+    public void testAbandonedTrialIsReleased() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, Duration.ofMillis(200));
+        breaker.recordFailure("a", FAILURE);
+        sleep(250);
+
+        CircuitBreaker.Permit trial = breaker.checkClosed("a");
+        breaker.recordAbandoned(trial);
+
+        breaker.checkClosed("a");
+    }
+
+    @Test(description = "An operation that was not the trial cannot free the trial in flight when it is abandoned")
+    public void testNonTrialAbandonKeepsTrial() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 100, 1, Duration.ofMillis(200));
+        CircuitBreaker.Permit admittedWhileClosed = breaker.checkClosed("a");
+        breaker.recordFailure("b", FAILURE);
+        sleep(250);
+        CircuitBreaker.Permit trial = breaker.checkClosed("c");
+
+        breaker.recordAbandoned(admittedWhileClosed);
+
+        Assert.assertThrows(CircuitOpenException.class, () -> breaker.checkClosed("d"));
+        breaker.recordAbandoned(trial);
+        breaker.checkClosed("d");
+    }
+
+    @Test(description = "A trial that never reports back is treated as lost after the open duration")
+    public void testLostTrialIsReplaced() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, Duration.ofMillis(200));
+        breaker.recordFailure("a", FAILURE);
+        sleep(250);
+        breaker.checkClosed("a");
+        Assert.assertThrows(CircuitOpenException.class, () -> breaker.checkClosed("a"));
+
+        sleep(250);
+        breaker.checkClosed("a");
+    }
+
+    @Test(description = "A non-retryable failure does not leave a half-open trial stuck")
+    public void testAbortedRetryReleasesTrial() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, Duration.ofMillis(200));
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                .circuitBreaker(breaker).build();
+        breaker.recordFailure("a", FAILURE);
+        sleep(250);
+
+        Assert.assertThrows(ConfigurationException.class, () -> RetryUtils.retryOperation(() -> {
+            throw new ConfigurationException("bad config");
+        }, "aborted trial", policy, Deadline.unbounded(), "a"));
+
+        Assert.assertEquals(RetryUtils.retryOperation(() -> "ok", "next trial", policy, Deadline.unbounded(), "a"), "ok");
+    }
+
+    @Test(description = "An Error in an async attempt completes the future and frees the half-open trial")
+    public void testAsyncErrorReleasesTrial() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, Duration.ofMillis(200));
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                .circuitBreaker(breaker).build();
+        breaker.recordFailure("a", FAILURE);
+        sleep(250);
+
+        CompletableFuture<String> future = RetryUtils.retryOperationAsync(() -> {
+            throw new AssertionError("assertion inside the operation");
+        }, "erroring trial", policy, Deadline.unbounded(), "a");
+
+        CompletionException thrown = Assert.expectThrows(CompletionException.class,
+                () -> future.orTimeout(5, TimeUnit.SECONDS).join());
+        Assert.assertTrue(thrown.getCause() instanceof AssertionError, "Unexpected cause: " + thrown.getCause());
+        breaker.checkClosed("a");
+    }
+
+    @Test(description = "reset() closes every circuit")
+    public void testResetClosesCircuits() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, Duration.ofMinutes(1));
+        breaker.recordFailure("a", FAILURE);
+
+        breaker.reset();
+
+        breaker.checkClosed("a");
+        breaker.checkClosed("b");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
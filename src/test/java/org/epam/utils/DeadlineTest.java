@@ -0,0 +1,59 @@
+package org.epam.utils;
+
+import org.epam.exceptions.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for Deadline and the time budget it puts on RetryUtils
+ */
+public class DeadlineTest {
+
+    @Test(description = "An unbounded deadline never expires and caps nothing")
+    public void testUnbounded() {
+        Deadline deadline = Deadline.unbounded();
+
+        Assert.assertTrue(deadline.isUnbounded());
+        Assert.assertFalse(deadline.isExpired());
+        Assert.assertEquals(deadline.remainingMillis(), Long.MAX_VALUE);
+        Assert.assertEquals(deadline.cap(Duration.ofSeconds(10)), Duration.ofSeconds(10));
+    }
+
+    @Test(description = "cap() returns the smaller of the timeout and the time left")
+    public void testCapLimitsTimeout() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(2));
+
+        Assert.assertFalse(deadline.isExpired());
+        Assert.assertTrue(deadline.cap(Duration.ofSeconds(10)).toMillis() <= 2000);
+        Assert.assertEquals(deadline.cap(Duration.ofMillis(500)), Duration.ofMillis(500));
+        Assert.assertEquals(deadline.getBudgetMillis(), 2000);
+    }
+
+    @Test(description = "A zero budget is expired at once and leaves nothing for nested waits")
+    public void testZeroBudgetIsExpired() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        Assert.assertTrue(deadline.isExpired());
+        Assert.assertEquals(deadline.remainingMillis(), 0);
+        Assert.assertEquals(deadline.cap(Duration.ofSeconds(10)), Duration.ZERO);
+    }
+
+    @Test(description = "Retries stop when the backoff would run past the deadline")
+    public void testRetryStopsAtDeadline() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(10)
+                .backoff(Duration.ofMillis(300), 1.0, Duration.ofMillis(300))
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Assert.assertThrows(TimeoutException.class, () -> RetryUtils.retryOperation(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("still failing");
+        }, "budgeted operation", policy, Deadline.after(Duration.ofMillis(500)), null));
+
+        Assert.assertTrue(attempts.get() <= 2, "Attempts beyond the budget: " + attempts.get());
+    }
+}
@@ -0,0 +1,71 @@
+package org.epam.utils;
+
+import org.epam.exceptions.CircuitOpenException;
+import org.epam.exceptions.ConfigurationException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for RetryPolicy - exception classification and backoff
+ */
+public class RetryPolicyTest {
+
+    @Test(description = "Configuration and open-circuit failures are never retried by default")
+    public void testDefaultAbortOn() {
+        RetryPolicy policy = RetryPolicy.builder().build();
+
+        Assert.assertFalse(policy.shouldRetry(new ConfigurationException("bad config")));
+        Assert.assertFalse(policy.shouldRetry(new CircuitOpenException("open")));
+        Assert.assertTrue(policy.shouldRetry(new IllegalStateException("anything else")));
+    }
+
+    @Test(description = "retryOn limits retries to the listed types, abortOn wins over retryOn")
+    public void testRetryOnAndAbortOn() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .retryOn(RuntimeException.class)
+                .abortOn(NoSuchElementException.class)
+                .build();
+
+        Assert.assertTrue(policy.shouldRetry(new StaleElementReferenceException("stale")));
+        Assert.assertFalse(policy.shouldRetry(new NoSuchElementException("missing")));
+        Assert.assertFalse(policy.shouldRetry(new Exception("checked")));
+    }
+
+    @Test(description = "Backoff grows by the multiplier and is capped at the maximum")
+    public void testExponentialBackoffIsCapped() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .backoff(Duration.ofMillis(100), 2.0, Duration.ofMillis(350))
+                .build();
+
+        Assert.assertEquals(policy.backoffMillis(1), 100);
+        Assert.assertEquals(policy.backoffMillis(2), 200);
+        Assert.assertEquals(policy.backoffMillis(3), 350);
+        Assert.assertEquals(policy.backoffMillis(10), 350);
+    }
+
+    @Test(description = "Jitter spreads the backoff within ±jitter of the base value")
+    public void testJitterStaysInRange() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .backoff(Duration.ofMillis(1000), 1.0, Duration.ofMillis(1000))
+                .jitter(0.25)
+                .build();
+
+        for (int i = 0; i < 200; i++) {
+            long backoff = policy.backoffMillis(1);
+            Assert.assertTrue(backoff >= 750 && backoff <= 1250, "Backoff out of range: " + backoff);
+        }
+    }
+
+    @Test(description = "withMaxAttempts copies the policy and keeps the original unchanged")
+    public void testWithMaxAttempts() {
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).build();
+
+        Assert.assertSame(policy.withMaxAttempts(3), policy);
+        Assert.assertEquals(policy.withMaxAttempts(5).getMaxAttempts(), 5);
+        Assert.assertEquals(policy.getMaxAttempts(), 3);
+    }
+}
@@ -0,0 +1,65 @@
+package org.epam.utils;
+
+import org.epam.driver.FakeWebDriver;
+import org.epam.driver.TestContext;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for TestAllure - binding a script's driver without losing the test's context
+ */
+public class TestAllureTest {
+
+    @Test(description = "removeDriver restores the context that was bound before setDriver")
+    public void testRemoveDriverRestoresPreviousContext() {
+        TestContext testContext = TestContext.forDriver("test", new FakeWebDriver().getDriver());
+        WebDriver scriptDriver = new FakeWebDriver().getDriver();
+        TestContext.bind(testContext);
+        try {
+            TestAllure.setDriver(scriptDriver);
+            Assert.assertSame(TestAllure.getDriver(), scriptDriver);
+
+            TestAllure.removeDriver();
+            Assert.assertSame(TestContext.currentOrNull(), testContext, "Test context should be bound again");
+        } finally {
+            TestContext.unbind();
+        }
+    }
+
+    @Test(description = "removeDriver unbinds when nothing was bound before setDriver")
+    public void testRemoveDriverUnbindsStandaloneDriver() {
+        TestAllure.setDriver(new FakeWebDriver().getDriver());
+
+        TestAllure.removeDriver();
+
+        Assert.assertNull(TestContext.currentOrNull());
+    }
+
+    @Test(description = "removeDriver without setDriver leaves the test's context alone")
+    public void testRemoveDriverWithoutSetDriverIsNoOp() {
+        TestContext testContext = TestContext.forDriver("test", new FakeWebDriver().getDriver());
+        TestContext.bind(testContext);
+        try {
+            TestAllure.removeDriver();
+            Assert.assertSame(TestContext.currentOrNull(), testContext);
+        } finally {
+            TestContext.unbind();
+        }
+    }
+
+    @Test(description = "A repeated setDriver still restores the original context")
+    public void testRepeatedSetDriverRestoresOriginalContext() {
+        TestContext testContext = TestContext.forDriver("test", new FakeWebDriver().getDriver());
+        TestContext.bind(testContext);
+        try {
+            TestAllure.setDriver(new FakeWebDriver().getDriver());
+            TestAllure.setDriver(new FakeWebDriver().getDriver());
+
+            TestAllure.removeDriver();
+            Assert.assertSame(TestContext.currentOrNull(), testContext);
+        } finally {
+            TestContext.unbind();
+        }
+    }
+}
@@ -21,7 +21,7 @@ Feature: SauceDemo Application - Login & Shopping
 
   # Shopping Feature Scenario
   Scenario: User can add product to cart and verify
-    When User logs in with username "standard_user" and password "secret_sauce"
+    Given User is logged in as "standard_user" with password "secret_sauce"
     And User is on products page
     And User adds "Backpack" product to cart
     Then Cart should show 1 item